@@ -0,0 +1,41 @@
+package com.impostor.backend.cluster;
+
+import com.impostor.backend.model.Room;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryRoomStore implements RoomStore {
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+    private final Map<String, String> playerRooms = new ConcurrentHashMap<>();
+
+    @Override
+    public Room get(String roomCode) {
+        return rooms.get(roomCode);
+    }
+
+    @Override
+    public Room putIfAbsent(Room room) {
+        return rooms.putIfAbsent(room.getRoomCode(), room);
+    }
+
+    @Override
+    public void remove(String roomCode) {
+        rooms.remove(roomCode);
+    }
+
+    @Override
+    public void bindPlayer(String playerId, String roomCode) {
+        playerRooms.put(playerId, roomCode);
+    }
+
+    @Override
+    public void unbindPlayer(String playerId) {
+        playerRooms.remove(playerId);
+    }
+
+    @Override
+    public String roomOfPlayer(String playerId) {
+        return playerRooms.get(playerId);
+    }
+}
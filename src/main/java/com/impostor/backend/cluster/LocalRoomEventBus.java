@@ -0,0 +1,20 @@
+package com.impostor.backend.cluster;
+
+import com.impostor.backend.service.GameEvent;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Single-node bus: there is nobody to forward to.
+ */
+public class LocalRoomEventBus implements RoomEventBus {
+
+    @Override
+    public void publish(String roomCode, List<GameEvent> events) {
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, List<GameEvent>> listener) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.impostor.backend.cluster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A cluster whose nodes all live in the same JVM. Nodes joined to the same
+ * cluster name share one {@link RoomStore} and see each other's room events.
+ */
+public final class LoopbackCluster {
+    private static final Map<String, LoopbackCluster> CLUSTERS = new ConcurrentHashMap<>();
+
+    private final RoomStore rooms = new InMemoryRoomStore();
+    private final List<LoopbackRoomEventBus> nodes = new CopyOnWriteArrayList<>();
+
+    private LoopbackCluster() {
+    }
+
+    public static LoopbackCluster named(String name) {
+        return CLUSTERS.computeIfAbsent(name, n -> new LoopbackCluster());
+    }
+
+    public RoomStore getRooms() {
+        return rooms;
+    }
+
+    public LoopbackRoomEventBus join(String nodeId) {
+        LoopbackRoomEventBus bus = new LoopbackRoomEventBus(this, nodeId);
+        nodes.add(bus);
+        return bus;
+    }
+
+    void leave(LoopbackRoomEventBus bus) {
+        nodes.remove(bus);
+    }
+
+    List<LoopbackRoomEventBus> getNodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,39 @@
+package com.impostor.backend.cluster;
+
+import com.impostor.backend.service.GameEvent;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public class LoopbackRoomEventBus implements RoomEventBus {
+    private final LoopbackCluster cluster;
+    private final String nodeId;
+    private volatile BiConsumer<String, List<GameEvent>> listener;
+
+    LoopbackRoomEventBus(LoopbackCluster cluster, String nodeId) {
+        this.cluster = cluster;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void publish(String roomCode, List<GameEvent> events) {
+        for (LoopbackRoomEventBus node : cluster.getNodes()) {
+            if (node != this && node.listener != null) {
+                node.listener.accept(roomCode, events);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, List<GameEvent>> listener) {
+        this.listener = listener;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void close() {
+        cluster.leave(this);
+    }
+}
@@ -0,0 +1,23 @@
+package com.impostor.backend.cluster;
+
+import com.impostor.backend.service.GameEvent;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Forwards room events to the other nodes of a cluster, so players connected to
+ * any node receive them.
+ */
+public interface RoomEventBus {
+
+    /**
+     * Sends events that were already delivered locally to every other node.
+     */
+    void publish(String roomCode, List<GameEvent> events);
+
+    /**
+     * Registers the local handler for events published by other nodes.
+     */
+    void subscribe(BiConsumer<String, List<GameEvent>> listener);
+}
@@ -0,0 +1,30 @@
+package com.impostor.backend.cluster;
+
+import com.impostor.backend.model.Room;
+
+/**
+ * Where {@link com.impostor.backend.service.RoomService} keeps its rooms. Nodes
+ * that share a store can all serve the same room.
+ */
+public interface RoomStore {
+
+    Room get(String roomCode);
+
+    /**
+     * Stores {@code room} unless its code is already taken.
+     *
+     * @return the room already stored under that code, or {@code null} if {@code room} was added
+     */
+    Room putIfAbsent(Room room);
+
+    void remove(String roomCode);
+
+    /**
+     * Records which room a player id belongs to, for lookups from a STOMP session.
+     */
+    void bindPlayer(String playerId, String roomCode);
+
+    void unbindPlayer(String playerId);
+
+    String roomOfPlayer(String playerId);
+}
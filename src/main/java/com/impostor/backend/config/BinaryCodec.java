@@ -0,0 +1,199 @@
+package com.impostor.backend.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.impostor.backend.service.GameEventDispatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.*;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Optional CBOR payloads for STOMP clients on the native WebSocket endpoint.
+ * <p>
+ * A client asks for it with {@code content-type:application/cbor} on CONNECT.
+ * Inbound frames it sends with that content type are read by
+ * {@link #inboundConverter()}. Outbound messages are still converted to JSON
+ * once and fanned out by the broker. For CBOR sessions the original payload,
+ * carried in {@link GameEventDispatcher#PAYLOAD_HEADER}, is serialized straight
+ * to CBOR on the way out, once per message however many such sessions receive
+ * it, and the frame goes out as a binary WebSocket message. Messages without
+ * that header are transcoded from their JSON. SockJS cannot carry binary
+ * frames, so its sessions always get JSON.
+ */
+@Component
+public class BinaryCodec implements WebSocketHandlerDecoratorFactory, ChannelInterceptor {
+
+    public static final MimeType CBOR = new MimeType("application", "cbor");
+
+    private final boolean enabled;
+    private final ObjectMapper cborMapper;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final Set<String> nativeSessions = ConcurrentHashMap.newKeySet();
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+    // Fan-out reuses one payload for every subscriber, so the last result is usually a hit
+    private final AtomicReference<Encoded> lastEncoded = new AtomicReference<>();
+
+    public BinaryCodec(@Value("${impostor.websocket.codec.cbor.enabled:true}") boolean enabled,
+            ObjectMapper objectMapper) {
+        this.enabled = enabled;
+        // Same modules and settings as the JSON frames, so both formats carry the same fields
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+    }
+
+    /**
+     * Reads {@code application/cbor} frames only, so JSON clients keep the default converter.
+     */
+    public MessageConverter inboundConverter() {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter(CBOR);
+        converter.setObjectMapper(CBORMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build());
+        converter.setStrictContentTypeMatch(true);
+        return converter;
+    }
+
+    /**
+     * Switches the session to CBOR if its CONNECT frame asked for it.
+     */
+    public void negotiate(StompHeaderAccessor connect) {
+        MimeType requested = connect.getContentType();
+        String sessionId = connect.getSessionId();
+        if (enabled && requested != null && CBOR.isCompatibleWith(requested) && nativeSessions.contains(sessionId)) {
+            cborSessions.add(sessionId);
+        }
+    }
+
+    public boolean isCbor(String sessionId) {
+        return cborSessions.contains(sessionId);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        // Cheap header checks first; most sessions are JSON
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE
+                || !isCbor(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))
+                || !(message.getPayload() instanceof byte[]))
+            return message;
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (!MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(accessor.getContentType()))
+            return message;
+        accessor.setContentType(CBOR);
+        Object payload = message.getHeaders().get(GameEventDispatcher.PAYLOAD_HEADER);
+        byte[] cbor = payload != null ? encode(payload) : toCbor((byte[]) message.getPayload());
+        return MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+    }
+
+    byte[] encode(Object payload) {
+        Encoded last = lastEncoded.get();
+        if (last != null && last.source == payload)
+            return last.cbor;
+
+        byte[] cbor;
+        try {
+            cbor = cborMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lastEncoded.set(new Encoded(payload, cbor));
+        return cbor;
+    }
+
+    byte[] toCbor(byte[] json) {
+        Encoded last = lastEncoded.get();
+        if (last != null && last.source == json)
+            return last.cbor;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = jsonFactory.createParser(json);
+                JsonGenerator generator = cborFactory.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] cbor = out.toByteArray();
+        lastEncoded.set(new Encoded(json, cbor));
+        return cbor;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (!enabled)
+            return handler;
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                if (!(WebSocketSessionDecorator.unwrap(session) instanceof SockJsSession)) {
+                    nativeSessions.add(session.getId());
+                    session = new BinaryFrameSession(session);
+                }
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                nativeSessions.remove(session.getId());
+                cborSessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * STOMP only sends binary frames for octet-stream bodies, so CBOR frames
+     * arrive here as text built from raw bytes and are resent as binary.
+     */
+    private class BinaryFrameSession extends WebSocketSessionDecorator {
+
+        BinaryFrameSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (message instanceof TextMessage && isCbor(getId())) {
+                message = new BinaryMessage(((TextMessage) message).asBytes(), message.isLast());
+            }
+            super.sendMessage(message);
+        }
+    }
+
+    private static class Encoded {
+        final Object source;
+        final byte[] cbor;
+
+        Encoded(Object source, byte[] cbor) {
+            this.source = source;
+            this.cbor = cbor;
+        }
+    }
+}
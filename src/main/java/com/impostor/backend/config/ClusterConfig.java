@@ -0,0 +1,52 @@
+package com.impostor.backend.config;
+
+import com.impostor.backend.cluster.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Room storage and cross-node fan-out. {@code impostor.cluster.mode=local}
+ * (default) keeps everything in this process; {@code loopback} joins the
+ * in-JVM cluster named by {@code impostor.cluster.name}.
+ */
+@Configuration
+public class ClusterConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "impostor.cluster.mode", havingValue = "local", matchIfMissing = true)
+    static class Local {
+
+        @Bean
+        public RoomStore roomStore() {
+            return new InMemoryRoomStore();
+        }
+
+        @Bean
+        public RoomEventBus roomEventBus() {
+            return new LocalRoomEventBus();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "impostor.cluster.mode", havingValue = "loopback")
+    static class Loopback {
+
+        @Value("${impostor.cluster.name:default}")
+        private String clusterName;
+
+        @Value("${impostor.cluster.node-id:${random.uuid}}")
+        private String nodeId;
+
+        @Bean
+        public RoomStore roomStore() {
+            return LoopbackCluster.named(clusterName).getRooms();
+        }
+
+        @Bean(destroyMethod = "close")
+        public LoopbackRoomEventBus roomEventBus() {
+            return LoopbackCluster.named(clusterName).join(nodeId);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.impostor.backend.config;
+
+import com.impostor.backend.dto.CompressionStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.*;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+/**
+ * Reports how much permessage-deflate saves on outbound frames and what it costs.
+ * <p>
+ * The container does not expose its compressed sizes, so for sessions that
+ * negotiated the extension each outbound text frame of at least
+ * {@code impostor.websocket.compression.threshold} bytes is also run through a
+ * per-session {@link Deflater} set up like the container's. Measuring doubles
+ * the compression work, so it is off unless
+ * {@code impostor.websocket.compression.stats=true}.
+ */
+@Component
+public class CompressionStats implements WebSocketHandlerDecoratorFactory {
+
+    private final boolean enabled;
+    private final int threshold;
+    private final boolean contextTakeover;
+    private final Map<String, Deflater> deflaters = new ConcurrentHashMap<>();
+
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder measuredFrames = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+
+    public CompressionStats(@Value("${impostor.websocket.compression.stats:false}") boolean enabled,
+            @Value("${impostor.websocket.compression.threshold:256}") int threshold,
+            DeflateHandshakeHandler handshakeHandler) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.contextTakeover = handshakeHandler.isContextTakeover();
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (!enabled)
+            return handler;
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                boolean deflate = session.getExtensions().stream()
+                        .anyMatch(e -> DeflateHandshakeHandler.PERMESSAGE_DEFLATE.equals(e.getName()));
+                super.afterConnectionEstablished(deflate ? new MeasuringSession(session) : session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                Deflater deflater = deflaters.remove(session.getId());
+                if (deflater != null) {
+                    deflater.end();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public CompressionStatsDTO snapshot() {
+        long measured = measuredFrames.sum();
+        long raw = rawBytes.sum();
+        long compressed = compressedBytes.sum();
+        long nanos = compressNanos.sum();
+        return new CompressionStatsDTO(enabled, threshold, contextTakeover, frames.sum(), measured, raw, compressed,
+                raw - compressed, measured == 0 ? 0 : nanos / measured);
+    }
+
+    private class MeasuringSession extends WebSocketSessionDecorator {
+        private final byte[] buffer = new byte[8192];
+
+        MeasuringSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            frames.increment();
+            if (message instanceof TextMessage && message.getPayloadLength() >= threshold) {
+                measure(((TextMessage) message).asBytes());
+            }
+            super.sendMessage(message);
+        }
+
+        private void measure(byte[] payload) {
+            Deflater deflater = deflaters.computeIfAbsent(getId(),
+                    id -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+            long start = System.nanoTime();
+            if (!contextTakeover) {
+                deflater.reset();
+            }
+            deflater.setInput(ByteBuffer.wrap(payload));
+            long out = 0;
+            int n;
+            do {
+                n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                out += n;
+            } while (n == buffer.length);
+            long elapsed = System.nanoTime() - start;
+
+            measuredFrames.increment();
+            rawBytes.add(payload.length);
+            // The trailing 0x00 0x00 0xff 0xff of each flush is not sent on the wire
+            compressedBytes.add(Math.max(0, out - 4));
+            compressNanos.add(elapsed);
+        }
+    }
+}
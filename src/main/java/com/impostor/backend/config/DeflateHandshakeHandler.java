@@ -0,0 +1,178 @@
+package com.impostor.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.Extension;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.server.HandshakeFailureException;
+import org.springframework.web.socket.server.standard.StandardWebSocketUpgradeStrategy;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Controls negotiation of the permessage-deflate extension (RFC 7692), which the
+ * servlet container implements for both /ws and /ws-native.
+ * <p>
+ * Context takeover is kept by default: room updates repeat the same keys and
+ * player names, so letting the compressor remember previous frames shrinks them
+ * far more than compressing each frame on its own.
+ */
+@Component
+public class DeflateHandshakeHandler extends DefaultHandshakeHandler {
+
+    static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean enabled;
+    private final boolean contextTakeover;
+
+    public DeflateHandshakeHandler(
+            @Value("${impostor.websocket.compression.enabled:true}") boolean enabled,
+            @Value("${impostor.websocket.compression.context-takeover:true}") boolean contextTakeover) {
+        super(new SelectedExtensionsUpgradeStrategy());
+        this.enabled = enabled;
+        this.contextTakeover = contextTakeover;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+            List<WebSocketExtension> requestedExtensions, List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> result = new ArrayList<>(
+                super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions));
+        result.removeIf(extension -> PERMESSAGE_DEFLATE.equals(extension.getName()));
+        if (enabled) {
+            // Spring's parsed offers lose valueless parameters, so read the raw header
+            WebSocketExtension deflate = negotiateDeflate(
+                    request.getHeaders().getOrEmpty(WebSocketHttpHeaders.SEC_WEBSOCKET_EXTENSIONS), contextTakeover);
+            if (deflate != null) {
+                result.add(deflate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Picks the first permessage-deflate offer the container can honour and
+     * reduces it to what a response may carry: the JDK deflater always uses a
+     * 15-bit window, so offers asking for a smaller server window are skipped,
+     * and a bare {@code client_max_window_bits} is dropped since it only
+     * permits the server to choose one.
+     *
+     * @return the extension to accept, or {@code null} if no offer fits
+     */
+    static WebSocketExtension negotiateDeflate(List<String> headerValues, boolean contextTakeover) {
+        for (String header : headerValues) {
+            for (String offer : header.split(",")) {
+                WebSocketExtension accepted = acceptOffer(offer, contextTakeover);
+                if (accepted != null)
+                    return accepted;
+            }
+        }
+        return null;
+    }
+
+    private static WebSocketExtension acceptOffer(String offer, boolean contextTakeover) {
+        String[] parts = offer.split(";");
+        if (!PERMESSAGE_DEFLATE.equalsIgnoreCase(parts[0].trim()))
+            return null;
+
+        boolean serverNoContextTakeover = !contextTakeover;
+        boolean clientNoContextTakeover = false;
+        boolean serverMaxWindowBits = false;
+        String clientMaxWindowBits = null;
+        Set<String> seen = new HashSet<>();
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+            String name = parameter[0].trim().toLowerCase(Locale.ROOT);
+            String value = parameter.length > 1 ? parameter[1].trim().replace("\"", "") : null;
+            if (!seen.add(name))
+                return null; // RFC 7692 declines offers that repeat a parameter
+            switch (name) {
+                case "server_no_context_takeover" -> serverNoContextTakeover = true;
+                case "client_no_context_takeover" -> clientNoContextTakeover = true;
+                case "server_max_window_bits" -> {
+                    if (!"15".equals(value))
+                        return null;
+                    serverMaxWindowBits = true;
+                }
+                case "client_max_window_bits" -> {
+                    if (value != null) {
+                        if (!value.matches("[89]|1[0-5]"))
+                            return null;
+                        clientMaxWindowBits = value;
+                    }
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (serverNoContextTakeover)
+            parameters.put("server_no_context_takeover", null);
+        if (clientNoContextTakeover)
+            parameters.put("client_no_context_takeover", null);
+        if (serverMaxWindowBits)
+            parameters.put("server_max_window_bits", "15");
+        if (clientMaxWindowBits != null)
+            parameters.put("client_max_window_bits", clientMaxWindowBits);
+        return new WebSocketExtension(PERMESSAGE_DEFLATE, parameters);
+    }
+
+    boolean isContextTakeover() {
+        return contextTakeover;
+    }
+
+    /**
+     * Tomcat negotiates extensions again from the raw request header, ignoring
+     * the ones selected by the handshake handler. Show it only the selected ones.
+     */
+    static class SelectedExtensionsUpgradeStrategy extends StandardWebSocketUpgradeStrategy {
+
+        @Override
+        protected void upgradeInternal(ServerHttpRequest request, ServerHttpResponse response,
+                String selectedProtocol, List<Extension> selectedExtensions, Endpoint endpoint)
+                throws HandshakeFailureException {
+            String header = selectedExtensions.stream()
+                    .map(SelectedExtensionsUpgradeStrategy::format)
+                    .collect(Collectors.joining(", "));
+            HttpServletRequest servletRequest = new HttpServletRequestWrapper(getHttpServletRequest(request)) {
+                @Override
+                public String getHeader(String name) {
+                    if (!"Sec-WebSocket-Extensions".equalsIgnoreCase(name))
+                        return super.getHeader(name);
+                    return header.isEmpty() ? null : header;
+                }
+
+                @Override
+                public Enumeration<String> getHeaders(String name) {
+                    if (!"Sec-WebSocket-Extensions".equalsIgnoreCase(name))
+                        return super.getHeaders(name);
+                    return Collections.enumeration(header.isEmpty() ? List.of() : List.of(header));
+                }
+            };
+            super.upgradeInternal(new ServletServerHttpRequest(servletRequest), response, selectedProtocol,
+                    selectedExtensions, endpoint);
+        }
+
+        private static String format(Extension extension) {
+            StringBuilder sb = new StringBuilder(extension.getName());
+            for (Extension.Parameter parameter : extension.getParameters()) {
+                sb.append(';').append(parameter.getName());
+                if (parameter.getValue() != null) {
+                    sb.append('=').append(parameter.getValue());
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.impostor.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impostor.backend.store.FileStatsStore;
+import com.impostor.backend.store.NoopStatsStore;
+import com.impostor.backend.store.StatsStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Where player stats are kept across restarts. {@code impostor.stats.store.enabled}
+ * (default) writes them under {@code impostor.stats.store.dir}; set it to
+ * {@code false} to keep stats in memory only.
+ */
+@Configuration
+public class StatsStoreConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "impostor.stats.store.enabled", havingValue = "true", matchIfMissing = true)
+    static class File {
+
+        @Value("${impostor.stats.store.dir:data/stats}")
+        private String dir;
+
+        @Value("${impostor.stats.store.cache-size:10000}")
+        private int cacheSize;
+
+        @Bean(destroyMethod = "close")
+        public FileStatsStore statsStore(ObjectMapper objectMapper) throws IOException {
+            return new FileStatsStore(objectMapper, Path.of(dir), cacheSize);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "impostor.stats.store.enabled", havingValue = "false")
+    static class Memory {
+
+        @Bean
+        public StatsStore statsStore() {
+            return new NoopStatsStore();
+        }
+    }
+}
@@ -1,18 +1,31 @@
 package com.impostor.backend.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final DeflateHandshakeHandler handshakeHandler;
+    private final CompressionStats compressionStats;
+    private final ThreadPoolTaskScheduler gameScheduler;
+    private final BinaryCodec binaryCodec;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        // Heartbeats let the broker notice dead sockets and fire SessionDisconnectEvent
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[] { 10000, 10000 })
+                .setTaskScheduler(gameScheduler);
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
     }
@@ -22,11 +35,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // Endpoint con SockJS (recomendado para compatibilidad)
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
+                .setHandshakeHandler(handshakeHandler)
 
                 .withSockJS();
 
         registry.addEndpoint("/ws-native")
-                .setAllowedOriginPatterns("*");
+                .setAllowedOriginPatterns("*")
+                .setHandshakeHandler(handshakeHandler);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(compressionStats);
+        registration.addDecoratorFactory(binaryCodec);
+    }
+
+    @Override
+    public boolean configureMessageConverters(java.util.List<MessageConverter> messageConverters) {
+        messageConverters.add(binaryCodec.inboundConverter());
+        // Keep the default JSON converter
+        return true;
+    }
+
+    @Override
+    public void configureClientOutboundChannel(org.springframework.messaging.simp.config.ChannelRegistration registration) {
+        registration.interceptors(binaryCodec);
     }
 
     @Override
@@ -53,6 +86,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     if (playerId != null) {
                         accessor.setUser(new StompPrincipal(playerId));
                     }
+                    binaryCodec.negotiate(accessor);
                 }
                 return message;
             }
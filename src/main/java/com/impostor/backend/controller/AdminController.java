@@ -0,0 +1,69 @@
+package com.impostor.backend.controller;
+
+import com.impostor.backend.config.CompressionStats;
+import com.impostor.backend.dto.AdminRoomPageDTO;
+import com.impostor.backend.dto.CompressionStatsDTO;
+import com.impostor.backend.dto.DedupeStatsDTO;
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.service.CommandDeduplicator;
+import com.impostor.backend.service.PresenceService;
+import com.impostor.backend.service.RoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final CompressionStats compressionStats;
+    private final PresenceService presenceService;
+    private final RoomService roomService;
+    private final CommandDeduplicator deduplicator;
+
+    @GetMapping("/websocket/compression")
+    public ResponseEntity<CompressionStatsDTO> compressionStats() {
+        return ResponseEntity.ok(compressionStats.snapshot());
+    }
+
+    @GetMapping("/websocket/dedupe")
+    public ResponseEntity<DedupeStatsDTO> dedupeStats() {
+        return ResponseEntity.ok(deduplicator.snapshot());
+    }
+
+    @GetMapping("/presence")
+    public ResponseEntity<Map<String, Integer>> presence() {
+        return ResponseEntity.ok(Map.of("openSessions", presenceService.getOpenSessionCount()));
+    }
+
+    /**
+     * Live rooms on this node, e.g. {@code ?state=VOTING&idleSeconds=600} or
+     * {@code ?minPlayers=20}. Follow {@code nextCursor} for more pages.
+     */
+    @GetMapping("/rooms")
+    public ResponseEntity<AdminRoomPageDTO> rooms(@RequestParam(required = false) GameState state,
+            @RequestParam(defaultValue = "0") long idleSeconds,
+            @RequestParam(defaultValue = "0") int minPlayers,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        try {
+            return ResponseEntity.ok(roomService.queryRooms(state, idleSeconds * 1000, minPlayers, size, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/rooms/states")
+    public ResponseEntity<Map<GameState, Integer>> roomStates() {
+        return ResponseEntity.ok(roomService.countRoomsByState());
+    }
+}
@@ -1,65 +1,183 @@
 package com.impostor.backend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impostor.backend.dto.BatchCreateRoomsDTO;
+import com.impostor.backend.dto.ClueDTO;
+import com.impostor.backend.dto.CreateRoomDTO;
+import com.impostor.backend.dto.JoinResponseDTO;
 import com.impostor.backend.dto.JoinRoomDTO;
+import com.impostor.backend.dto.RoomSummaryDTO;
 import com.impostor.backend.dto.VoteDTO;
 import com.impostor.backend.model.Player;
 import com.impostor.backend.model.Room;
+import com.impostor.backend.model.RoomSnapshot;
+import com.impostor.backend.service.CommandDeduplicator;
 import com.impostor.backend.service.GameService;
+import com.impostor.backend.service.PlayerStatsService;
 import com.impostor.backend.service.RoomService;
+import com.impostor.backend.service.SpectatorService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/game")
 @RequiredArgsConstructor
 public class GameController {
 
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final int BATCH_CHUNK_SIZE = 100;
+
     private final RoomService roomService;
     private final GameService gameService;
+    private final SpectatorService spectatorService;
+    private final PlayerStatsService statsService;
+    private final CommandDeduplicator deduplicator;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/create")
-    public ResponseEntity<Room> createRoom(@RequestBody com.impostor.backend.dto.CreateRoomDTO createRoomDTO) {
-        return ResponseEntity.ok(roomService.createRoom(createRoomDTO.getUsername(), createRoomDTO.getMaxRounds()));
+    public ResponseEntity<JoinResponseDTO> createRoom(@RequestBody com.impostor.backend.dto.CreateRoomDTO createRoomDTO) {
+        Room room = roomService.createRoom(createRoomDTO.getUsername(), createRoomDTO.getMaxRounds());
+        statsService.warm(createRoomDTO.getUsername());
+        // The summary names players only, so the host gets their id here like a joiner
+        return ResponseEntity.ok(new JoinResponseDTO(room.getPlayers().get(0), RoomSummaryDTO.of(room.getSnapshot())));
+    }
+
+    /**
+     * Creates every room in one request and streams one host and room per line,
+     * a chunk at a time, so large batches show progress and never sit in memory.
+     * Each chunk's hosts are warmed with one stats store call.
+     */
+    @PostMapping(value = "/create/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createRooms(@RequestBody BatchCreateRoomsDTO batch) {
+        List<CreateRoomDTO> rooms = batch.getRooms();
+        if (rooms == null || rooms.isEmpty() || rooms.size() > MAX_BATCH_SIZE
+                || rooms.stream().anyMatch(r -> r == null || r.getUsername() == null || r.getUsername().isBlank())) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> {
+            for (int from = 0; from < rooms.size(); from += BATCH_CHUNK_SIZE) {
+                List<CreateRoomDTO> chunk = rooms.subList(from, Math.min(from + BATCH_CHUNK_SIZE, rooms.size()));
+                List<Room> created = new ArrayList<>(chunk.size());
+                for (CreateRoomDTO request : chunk) {
+                    created.add(roomService.createRoom(request.getUsername(), request.getMaxRounds()));
+                }
+                statsService.warmAll(chunk.stream().map(CreateRoomDTO::getUsername).collect(Collectors.toList()));
+                for (Room room : created) {
+                    out.write(objectMapper.writeValueAsBytes(
+                            new JoinResponseDTO(room.getPlayers().get(0), RoomSummaryDTO.of(room.getSnapshot()))));
+                    out.write('\n');
+                }
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @PostMapping("/join/{roomCode}")
-    public ResponseEntity<com.impostor.backend.dto.JoinResponseDTO> joinRoom(@PathVariable String roomCode,
+    public ResponseEntity<JoinResponseDTO> joinRoom(@PathVariable String roomCode,
             @RequestBody JoinRoomDTO joinRoomDTO) {
         String sessionId = java.util.UUID.randomUUID().toString();
         Player player = roomService.joinRoom(roomCode, joinRoomDTO.getUsername(), sessionId);
+        statsService.warm(player.getUsername());
 
         Room room = roomService.getRoom(roomCode);
         gameService.broadcastRoomUpdate(room, player.getUsername() + " joined.");
 
-        return ResponseEntity.ok(new com.impostor.backend.dto.JoinResponseDTO(player, room));
+        return ResponseEntity.ok(new JoinResponseDTO(player,
+                RoomSummaryDTO.of(room.getSnapshot())));
+    }
+
+    @GetMapping("/room/{roomCode}")
+    public ResponseEntity<RoomSummaryDTO> getRoomState(@PathVariable String roomCode, WebRequest request) {
+        Room room = roomService.getRoom(roomCode);
+        if (room == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        RoomSnapshot snapshot = room.getSnapshot();
+        String etag = "\"" + roomCode + "-" + snapshot.getVersion() + "\"";
+        if (request.checkNotModified(etag)) {
+            // 304 already set, skip building the body
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(RoomSummaryDTO.of(snapshot));
+    }
+
+    @GetMapping("/room/{roomCode}/clues")
+    public ResponseEntity<List<ClueDTO>> getClues(@PathVariable String roomCode) {
+        List<ClueDTO> clues = gameService.getClues(roomCode);
+        if (clues == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(clues);
+    }
+
+    @GetMapping(path = "/room/{roomCode}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> watchRoom(@PathVariable String roomCode,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = spectatorService.watch(roomCode, lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(emitter);
     }
 
     @MessageMapping("/room/{roomCode}/start")
     public void startGame(@DestinationVariable String roomCode) {
-        gameService.startGame(roomCode);
+        roomService.execute(roomCode, () -> gameService.startGame(roomCode));
     }
 
     @MessageMapping("/room/{roomCode}/category")
-    public void submitCategory(@DestinationVariable String roomCode, @Payload com.impostor.backend.dto.InputDTO input) {
-        gameService.submitCategory(roomCode, input.getPlayerId(), input.getValue());
+    public void submitCategory(@DestinationVariable String roomCode, @Payload com.impostor.backend.dto.InputDTO input,
+            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        if (!deduplicator.firstSeen(sessionId, input.getMessageId()))
+            return;
+        roomService.execute(roomCode,
+                () -> gameService.submitCategory(roomCode, input.getPlayerId(), input.getValue()));
     }
 
     @MessageMapping("/room/{roomCode}/word")
-    public void submitWord(@DestinationVariable String roomCode, @Payload com.impostor.backend.dto.InputDTO input) {
-        gameService.submitWord(roomCode, input.getPlayerId(), input.getValue());
+    public void submitWord(@DestinationVariable String roomCode, @Payload com.impostor.backend.dto.InputDTO input,
+            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        if (!deduplicator.firstSeen(sessionId, input.getMessageId()))
+            return;
+        roomService.execute(roomCode, () -> gameService.submitWord(roomCode, input.getPlayerId(), input.getValue()));
+    }
+
+    @MessageMapping("/room/{roomCode}/clue")
+    public void submitClue(@DestinationVariable String roomCode, @Payload com.impostor.backend.dto.InputDTO input,
+            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        if (!deduplicator.firstSeen(sessionId, input.getMessageId()))
+            return;
+        roomService.execute(roomCode, () -> gameService.submitClue(roomCode, input.getPlayerId(), input.getValue()));
     }
 
     @MessageMapping("/room/{roomCode}/vote")
-    public void vote(@DestinationVariable String roomCode, @Payload VoteDTO voteDTO) {
-        gameService.vote(roomCode, voteDTO.getVoterId(), voteDTO.getVotedPlayerId());
+    public void vote(@DestinationVariable String roomCode, @Payload VoteDTO voteDTO,
+            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        if (!deduplicator.firstSeen(sessionId, voteDTO.getMessageId()))
+            return;
+        roomService.execute(roomCode,
+                () -> gameService.vote(roomCode, voteDTO.getVoterId(), voteDTO.getVotedPlayerId()));
     }
 
     @MessageMapping("/room/{roomCode}/reset")
     public void resetGame(@DestinationVariable String roomCode) {
-        gameService.resetGame(roomCode);
+        roomService.execute(roomCode, () -> gameService.resetGame(roomCode));
     }
 }
@@ -0,0 +1,32 @@
+package com.impostor.backend.controller;
+
+import com.impostor.backend.dto.PlayerStatsDTO;
+import com.impostor.backend.service.PlayerStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final PlayerStatsService statsService;
+
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<PlayerStatsDTO>> leaderboard(@RequestParam(defaultValue = "10") int limit) {
+        int size = Math.max(1, Math.min(limit, PlayerStatsService.LEADERBOARD_SIZE));
+        return ResponseEntity.ok(statsService.top(size));
+    }
+
+    @GetMapping("/players/{username}")
+    public ResponseEntity<PlayerStatsDTO> playerStats(@PathVariable String username) {
+        PlayerStatsDTO stats = statsService.getStats(username);
+        if (stats == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(stats);
+    }
+}
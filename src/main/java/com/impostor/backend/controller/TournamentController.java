@@ -0,0 +1,60 @@
+package com.impostor.backend.controller;
+
+import com.impostor.backend.dto.CreateTournamentDTO;
+import com.impostor.backend.dto.TournamentCreatedDTO;
+import com.impostor.backend.dto.TournamentDTO;
+import com.impostor.backend.dto.TournamentSeatDTO;
+import com.impostor.backend.service.TournamentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tournaments")
+@RequiredArgsConstructor
+public class TournamentController {
+
+    private final TournamentService tournamentService;
+
+    @PostMapping
+    public ResponseEntity<TournamentCreatedDTO> create(@RequestBody CreateTournamentDTO request) {
+        try {
+            return ResponseEntity.ok(tournamentService.create(request));
+        } catch (IllegalArgumentException e) {
+            System.err.println("ERROR: Rejected tournament: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            System.err.println("ERROR: Rejected tournament: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TournamentDTO> get(@PathVariable String id) {
+        TournamentDTO tournament = tournamentService.get(id);
+        if (tournament == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(tournament);
+    }
+
+    /**
+     * The player's room for their current round. With the entrant's key, also
+     * the player id to connect with.
+     */
+    @GetMapping("/{id}/players/{username}")
+    public ResponseEntity<TournamentSeatDTO> seat(@PathVariable String id, @PathVariable String username,
+            @RequestHeader(value = "X-Entrant-Key", required = false) String key) {
+        TournamentSeatDTO seat;
+        try {
+            seat = tournamentService.getSeat(id, username, key);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (seat == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(seat);
+    }
+}
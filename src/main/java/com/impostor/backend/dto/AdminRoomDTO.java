@@ -0,0 +1,17 @@
+package com.impostor.backend.dto;
+
+import com.impostor.backend.model.GameState;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminRoomDTO {
+    private String roomCode;
+    private GameState gameState;
+    private int playerCount;
+    private long lastActivity;
+    private long idleMillis;
+}
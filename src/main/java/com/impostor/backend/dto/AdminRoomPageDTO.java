@@ -0,0 +1,16 @@
+package com.impostor.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminRoomPageDTO {
+    private List<AdminRoomDTO> rooms;
+    // Pass back as cursor for the next page; null when this page was not full
+    private String nextCursor;
+}
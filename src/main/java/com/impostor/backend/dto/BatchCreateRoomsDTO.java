@@ -0,0 +1,11 @@
+package com.impostor.backend.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchCreateRoomsDTO {
+    // One entry per room; its username becomes the host
+    private List<CreateRoomDTO> rooms;
+}
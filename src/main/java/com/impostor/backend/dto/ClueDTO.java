@@ -0,0 +1,24 @@
+package com.impostor.backend.dto;
+
+import com.impostor.backend.model.ClueLog;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClueDTO {
+    private long seq;
+    private int round;
+    private String playerId;
+    private String username;
+    private String clue;
+    // Who speaks next, or null once everyone has given a clue this round
+    private String nextSpeakerId;
+
+    public static ClueDTO of(ClueLog.Clue clue, String nextSpeakerId) {
+        return new ClueDTO(clue.getSeq(), clue.getRound(), clue.getPlayerId(), clue.getUsername(), clue.getText(),
+                nextSpeakerId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.impostor.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CompressionStatsDTO {
+    private boolean enabled;
+    private int threshold;
+    private boolean contextTakeover;
+    private long frames;
+    private long measuredFrames;
+    private long rawBytes;
+    private long compressedBytes;
+    private long bytesSaved;
+    private long avgNanosPerFrame;
+}
@@ -0,0 +1,15 @@
+package com.impostor.backend.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CreateTournamentDTO {
+    private List<String> usernames;
+    // Players per room, defaults to 6
+    private int roomSize;
+    // Players each room sends to the next bracket round, defaults to 1
+    private int advancePerRoom;
+    private int maxRounds;
+}
@@ -0,0 +1,16 @@
+package com.impostor.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DedupeStatsDTO {
+    private int windowSize;
+    private long windowMillis;
+    private int sessions;
+    private long checked;
+    private long suppressed;
+}
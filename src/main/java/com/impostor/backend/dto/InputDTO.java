@@ -6,4 +6,6 @@ import lombok.Data;
 public class InputDTO {
     private String playerId;
     private String value;
+    // Optional, lets retries of the same message be dropped
+    private String messageId;
 }
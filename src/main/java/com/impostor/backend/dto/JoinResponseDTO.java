@@ -1,7 +1,6 @@
 package com.impostor.backend.dto;
 
 import com.impostor.backend.model.Player;
-import com.impostor.backend.model.Room;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,5 +10,5 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class JoinResponseDTO {
     private Player player;
-    private Room room;
+    private RoomSummaryDTO room;
 }
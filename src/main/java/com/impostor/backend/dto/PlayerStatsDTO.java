@@ -0,0 +1,18 @@
+package com.impostor.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlayerStatsDTO {
+    private String username;
+    private long gamesPlayed;
+    private long wins;
+    private long losses;
+    private long impostorGames;
+    private long impostorWins;
+    private long impostorsFound;
+}
@@ -0,0 +1,22 @@
+package com.impostor.backend.dto;
+
+import com.impostor.backend.model.PlayerSnapshot;
+import com.impostor.backend.model.PresenceStatus;
+import com.impostor.backend.model.Role;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlayerSummaryDTO {
+    private String username;
+    private boolean eliminated;
+    private PresenceStatus presence;
+
+    public static PlayerSummaryDTO of(PlayerSnapshot player) {
+        return new PlayerSummaryDTO(player.getUsername(), player.getRole() == Role.SPECTATOR,
+                player.getPresence());
+    }
+}
@@ -1,7 +1,8 @@
 package com.impostor.backend.dto;
 
 import com.impostor.backend.model.GameState;
-import com.impostor.backend.model.Player;
+import com.impostor.backend.model.PlayerSnapshot;
+import com.impostor.backend.model.RoomSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,14 +14,32 @@ import java.util.List;
 @NoArgsConstructor
 public class RoomStatusDTO {
     private String roomCode;
-    private List<Player> players;
+    private List<PlayerSnapshot> players;
     private GameState gameState;
     private String message;
     private int currentRound;
     private int maxRounds;
     private String impostorName;
     private String firstSpeakerId;
+    private String currentSpeakerId;
     @com.fasterxml.jackson.annotation.JsonProperty("isTieBreaker")
     private boolean isTieBreaker;
     private List<String> tiedPlayerIds;
+    private long version;
+
+    public static RoomStatusDTO of(RoomSnapshot room, String message) {
+        return new RoomStatusDTO(
+                room.getRoomCode(),
+                room.getPlayers(),
+                room.getGameState(),
+                message,
+                room.getCurrentRound(),
+                room.getMaxRounds(),
+                room.getGameState() == GameState.FINISHED ? room.getImpostorName() : null,
+                room.getFirstSpeakerId(),
+                room.getCurrentSpeakerId(),
+                room.isTieBreaker(),
+                room.getTiedPlayerIds(),
+                room.getVersion());
+    }
 }
@@ -0,0 +1,60 @@
+package com.impostor.backend.dto;
+
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.model.RoomSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Public view of a room for REST clients and spectators. Leaves out
+ * suggestions, votes, the secret word and who the impostor is, and names
+ * players by username since a player id is what authorizes their actions.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomSummaryDTO {
+    private String roomCode;
+    private long version;
+    private GameState gameState;
+    private int currentRound;
+    private int maxRounds;
+    private List<PlayerSummaryDTO> players;
+    private String firstSpeaker;
+    private String currentSpeaker;
+    @com.fasterxml.jackson.annotation.JsonProperty("isTieBreaker")
+    private boolean isTieBreaker;
+    private List<String> tiedPlayers;
+    private String impostorName;
+
+    public static RoomSummaryDTO of(RoomSnapshot room) {
+        return of(RoomStatusDTO.of(room, null));
+    }
+
+    /**
+     * Projects a room broadcast, e.g. for spectators who must not see roles.
+     */
+    public static RoomSummaryDTO of(RoomStatusDTO room) {
+        Map<String, String> usernames = new HashMap<>();
+        room.getPlayers().forEach(p -> usernames.put(p.getId(), p.getUsername()));
+        return new RoomSummaryDTO(
+                room.getRoomCode(),
+                room.getVersion(),
+                room.getGameState(),
+                room.getCurrentRound(),
+                room.getMaxRounds(),
+                room.getPlayers().stream().map(PlayerSummaryDTO::of).collect(Collectors.toList()),
+                usernames.get(room.getFirstSpeakerId()),
+                usernames.get(room.getCurrentSpeakerId()),
+                room.isTieBreaker(),
+                room.getTiedPlayerIds() == null ? List.of()
+                        : room.getTiedPlayerIds().stream().map(usernames::get).collect(Collectors.toList()),
+                room.getImpostorName());
+    }
+}
@@ -0,0 +1,16 @@
+package com.impostor.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentCreatedDTO {
+    private TournamentDTO tournament;
+    // Username -> private key; hand each entrant only their own
+    private Map<String, String> entrantKeys;
+}
@@ -0,0 +1,20 @@
+package com.impostor.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentDTO {
+    private String id;
+    private int players;
+    private int round;
+    private int rooms;
+    private int roomsFinished;
+    private int playersRemaining;
+    private boolean finished;
+    private String champion;
+    private long elapsedMillis;
+}
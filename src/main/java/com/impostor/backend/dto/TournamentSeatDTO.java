@@ -0,0 +1,17 @@
+package com.impostor.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentSeatDTO {
+    private String username;
+    private int round;
+    private String roomCode;
+    // STOMP playerId header for that room; only sent with the entrant's key
+    private String playerId;
+    private boolean eliminated;
+}
@@ -10,4 +10,6 @@ import lombok.NoArgsConstructor;
 public class VoteDTO {
     private String votedPlayerId;
     private String voterId;
+    // Optional, lets retries of the same message be dropped
+    private String messageId;
 }
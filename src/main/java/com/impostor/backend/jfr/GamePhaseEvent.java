@@ -0,0 +1,59 @@
+package com.impostor.backend.jfr;
+
+import com.impostor.backend.model.Room;
+import jdk.jfr.*;
+
+/**
+ * One game operation applied to a room, timed while the room lock is held.
+ * Serialization and fan-out of what it produced are recorded separately as
+ * {@link RoomBroadcastEvent}s.
+ */
+@Name("impostor.GamePhase")
+@Label("Game Phase")
+@Category({ "Impostor", "Game" })
+@Description("Game operation applied to a room")
+@StackTrace(false)
+public class GamePhaseEvent extends Event {
+
+    @Label("Room Code")
+    String roomCode;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("From State")
+    String fromState;
+
+    @Label("To State")
+    String toState;
+
+    @Label("Players")
+    int playerCount;
+
+    @Label("Outbound Events")
+    int eventCount;
+
+    public static GamePhaseEvent begin(Room room, String operation) {
+        GamePhaseEvent event = new GamePhaseEvent();
+        if (event.isEnabled()) {
+            event.roomCode = room.getRoomCode();
+            event.operation = operation;
+            event.fromState = room.getGameState().name();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * @param eventCount outbound events the operation produced
+     */
+    public void complete(Room room, int eventCount) {
+        end();
+        if (shouldCommit()) {
+            toState = room.getGameState().name();
+            playerCount = room.getPlayers().size();
+            this.eventCount = eventCount;
+            commit();
+        }
+    }
+}
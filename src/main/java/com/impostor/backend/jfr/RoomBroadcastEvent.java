@@ -0,0 +1,34 @@
+package com.impostor.backend.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Delivery of one outbound message: conversion to bytes and hand-off to the
+ * broker. In-process listeners run after the event is committed, so their
+ * time is not included.
+ */
+@Name("impostor.RoomBroadcast")
+@Label("Room Broadcast")
+@Category({ "Impostor", "Messaging" })
+@Description("Outbound room message converted and handed to the broker")
+@StackTrace(false)
+public class RoomBroadcastEvent extends Event {
+
+    @Label("Room Code")
+    public String roomCode;
+
+    @Label("Destination")
+    public String destination;
+
+    @Label("Private")
+    @Description("Sent to a single user rather than the room topic")
+    public boolean toUser;
+
+    @Label("Players")
+    @Description("Players in the room update, or 0 for other payloads")
+    public int playerCount;
+
+    @Label("Payload Size")
+    @DataAmount
+    public long payloadSize;
+}
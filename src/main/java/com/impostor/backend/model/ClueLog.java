@@ -0,0 +1,73 @@
+package com.impostor.backend.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ring buffer of the most recent clues in a room. Storage is allocated up
+ * front, so a room costs the same memory however many rounds it plays; once
+ * full, each new clue overwrites the oldest. Guarded by the room lock.
+ */
+public class ClueLog {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final int[] rounds;
+    private final String[] playerIds;
+    private final String[] usernames;
+    private final String[] texts;
+    // Sequence number of the next clue; also the number of clues ever appended
+    private long next;
+
+    public ClueLog(int capacity) {
+        rounds = new int[capacity];
+        playerIds = new String[capacity];
+        usernames = new String[capacity];
+        texts = new String[capacity];
+    }
+
+    /**
+     * @return the sequence number given to the clue
+     */
+    public long append(int round, String playerId, String username, String text) {
+        int slot = (int) (next % texts.length);
+        rounds[slot] = round;
+        playerIds[slot] = playerId;
+        usernames[slot] = username;
+        texts[slot] = text;
+        return next++;
+    }
+
+    public int size() {
+        return (int) Math.min(next, texts.length);
+    }
+
+    /**
+     * Clues still in the buffer, oldest first.
+     */
+    public List<Clue> recent() {
+        List<Clue> clues = new ArrayList<>(size());
+        for (long seq = next - size(); seq < next; seq++) {
+            int slot = (int) (seq % texts.length);
+            clues.add(new Clue(seq, rounds[slot], playerIds[slot], usernames[slot], texts[slot]));
+        }
+        return clues;
+    }
+
+    public void clear() {
+        Arrays.fill(playerIds, null);
+        Arrays.fill(usernames, null);
+        Arrays.fill(texts, null);
+        next = 0;
+    }
+
+    @lombok.Value
+    public static class Clue {
+        long seq;
+        int round;
+        String playerId;
+        String username;
+        String text;
+    }
+}
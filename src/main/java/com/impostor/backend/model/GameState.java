@@ -5,6 +5,7 @@ public enum GameState {
     ASSIGN_ROLES,
     CATEGORY_INPUT,
     WORD_INPUT,
+    CLUE_INPUT,
     VOTING,
     FINISHED
 }
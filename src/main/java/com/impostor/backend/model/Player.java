@@ -1,14 +1,19 @@
 package com.impostor.backend.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class Player {
     private String id;
     private String username;
     private Role role;
+    private PresenceStatus presence = PresenceStatus.ONLINE;
+
+    public Player(String id, String username, Role role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
 }
@@ -0,0 +1,22 @@
+package com.impostor.backend.model;
+
+import lombok.Value;
+
+@Value
+public class PlayerSnapshot {
+    String id;
+    String username;
+    Role role;
+    PresenceStatus presence;
+
+    boolean matches(Player player) {
+        return id.equals(player.getId())
+                && username.equals(player.getUsername())
+                && role == player.getRole()
+                && presence == player.getPresence();
+    }
+
+    static PlayerSnapshot of(Player player) {
+        return new PlayerSnapshot(player.getId(), player.getUsername(), player.getRole(), player.getPresence());
+    }
+}
@@ -0,0 +1,9 @@
+package com.impostor.backend.model;
+
+public enum PresenceStatus {
+    ONLINE,
+    // Socket dropped, still within the grace period
+    RECONNECTING,
+    // Grace period over; no longer waited on
+    OFFLINE
+}
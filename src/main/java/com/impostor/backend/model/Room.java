@@ -1,10 +1,13 @@
 package com.impostor.backend.model;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Data
 public class Room {
@@ -18,29 +21,138 @@ public class Room {
     private String impostorId;
     private String impostorName; // For final reveal
 
+    // Game input is stored by seat (index in players) and allocated on first use.
+    // The maps below are id-keyed views over these arrays.
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String[] categoryBySeat;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String[] wordBySeat;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int[] voteBySeat;
+
     // Suggestions: Map<PlayerId, Suggestion>
-    private Map<String, String> categorySuggestions = new ConcurrentHashMap<>();
-    private Map<String, String> wordSuggestions = new ConcurrentHashMap<>();
+    private final Map<String, String> categorySuggestions = new SeatMap(this) {
+        @Override
+        protected String getAt(int seat) {
+            return categoryBySeat[seat];
+        }
+
+        @Override
+        protected void setAt(int seat, String value) {
+            categoryBySeat = ensureSeat(categoryBySeat, seat);
+            categoryBySeat[seat] = value;
+        }
+
+        @Override
+        protected int capacity() {
+            return categoryBySeat == null ? 0 : categoryBySeat.length;
+        }
+    };
+    private final Map<String, String> wordSuggestions = new SeatMap(this) {
+        @Override
+        protected String getAt(int seat) {
+            return wordBySeat[seat];
+        }
+
+        @Override
+        protected void setAt(int seat, String value) {
+            wordBySeat = ensureSeat(wordBySeat, seat);
+            wordBySeat[seat] = value;
+        }
+
+        @Override
+        protected int capacity() {
+            return wordBySeat == null ? 0 : wordBySeat.length;
+        }
+    };
 
     // Selected values
     private String selectedCategory;
     private String selectedWord;
 
-    // Map<VoterID, VotedPlayerID>
-    private Map<String, String> votes = new ConcurrentHashMap<>();
+    // Map<VoterID, VotedPlayerID>; both sides are stored as seats
+    private final Map<String, String> votes = new SeatMap(this) {
+        @Override
+        protected String getAt(int seat) {
+            int voted = voteBySeat[seat];
+            return voted < 0 ? null : players.get(voted).getId();
+        }
+
+        @Override
+        protected void setAt(int seat, String value) {
+            int voted = value == null ? -1 : seatOf(value);
+            if (value != null && voted < 0)
+                throw new IllegalArgumentException("Player not in room: " + value);
+            if (voteBySeat == null || seat >= voteBySeat.length) {
+                int old = voteBySeat == null ? 0 : voteBySeat.length;
+                voteBySeat = voteBySeat == null ? new int[seatCapacity(seat)]
+                        : Arrays.copyOf(voteBySeat, seatCapacity(seat));
+                Arrays.fill(voteBySeat, old, voteBySeat.length, -1);
+            }
+            voteBySeat[seat] = voted;
+        }
+
+        @Override
+        protected int capacity() {
+            return voteBySeat == null ? 0 : voteBySeat.length;
+        }
+    };
 
     // First Speaker Logic
     private String firstSpeakerId;
     private String previousGameLastFirstSpeakerId;
 
+    // Clue Phase: players speak in turn starting from firstSpeakerId
+    private String currentSpeakerId;
+    private int clueTurn;
+    private final ClueLog clueLog = new ClueLog(ClueLog.DEFAULT_CAPACITY);
+
     // Tie-Breaker Logic
     private boolean isTieBreaker;
     private List<String> tiedPlayerIds = new ArrayList<>();
 
+    // Bumped every time a room update is announced; clients use it as an ETag
+    private long version;
+    private volatile RoomSnapshot snapshot;
+
     public Room(String roomCode) {
         this.roomCode = roomCode;
     }
 
+    /**
+     * Bumps the version and publishes the current state for lock-free readers.
+     * Call with the room lock held.
+     */
+    public RoomSnapshot publishSnapshot() {
+        version++;
+        snapshot = RoomSnapshot.of(this, version, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * @return the player's seat, or -1 if they are not in the room
+     */
+    public int seatOf(Object playerId) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat).getId().equals(playerId))
+                return seat;
+        }
+        return -1;
+    }
+
+    private String[] ensureSeat(String[] values, int seat) {
+        if (values == null)
+            return new String[seatCapacity(seat)];
+        return seat < values.length ? values : Arrays.copyOf(values, seatCapacity(seat));
+    }
+
+    private int seatCapacity(int seat) {
+        return Math.max(seat + 1, players.size());
+    }
+
     public void reset() {
         this.gameState = GameState.LOBBY;
         this.impostorId = null;
@@ -51,6 +163,9 @@ public class Room {
         this.votes.clear();
         this.players.forEach(p -> p.setRole(null));
         this.firstSpeakerId = null;
+        this.currentSpeakerId = null;
+        this.clueTurn = 0;
+        this.clueLog.clear();
         this.isTieBreaker = false;
         this.tiedPlayerIds.clear();
     }
@@ -0,0 +1,66 @@
+package com.impostor.backend.model;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable public state of a {@link Room} at one version. Broadcasts, REST
+ * projections and metrics read this instead of the live room, so they never
+ * need the room lock and never see a half-applied change.
+ * <p>
+ * Parts that did not change since the previous snapshot are reused rather than
+ * copied: unchanged players keep their {@link PlayerSnapshot}, and an unchanged
+ * player or tie list is shared outright.
+ */
+@Value
+public class RoomSnapshot {
+    String roomCode;
+    long version;
+    GameState gameState;
+    int currentRound;
+    int maxRounds;
+    List<PlayerSnapshot> players;
+    String impostorName;
+    String firstSpeakerId;
+    String currentSpeakerId;
+    boolean tieBreaker;
+    List<String> tiedPlayerIds;
+
+    static RoomSnapshot of(Room room, long version, RoomSnapshot previous) {
+        List<PlayerSnapshot> players = sharePlayers(room.getPlayers(), previous == null ? null : previous.players);
+        List<String> tied = previous != null && previous.tiedPlayerIds.equals(room.getTiedPlayerIds())
+                ? previous.tiedPlayerIds
+                : List.copyOf(room.getTiedPlayerIds());
+
+        return new RoomSnapshot(
+                room.getRoomCode(),
+                version,
+                room.getGameState(),
+                room.getCurrentRound(),
+                room.getMaxRounds(),
+                players,
+                room.getImpostorName(),
+                room.getFirstSpeakerId(),
+                room.getCurrentSpeakerId(),
+                room.isTieBreaker(),
+                tied);
+    }
+
+    private static List<PlayerSnapshot> sharePlayers(List<Player> current, List<PlayerSnapshot> previous) {
+        List<PlayerSnapshot> result = new ArrayList<>(current.size());
+        boolean changed = previous == null || previous.size() != current.size();
+        for (int i = 0; i < current.size(); i++) {
+            Player player = current.get(i);
+            PlayerSnapshot before = previous != null && i < previous.size() ? previous.get(i) : null;
+            if (before != null && before.matches(player)) {
+                result.add(before);
+            } else {
+                result.add(PlayerSnapshot.of(player));
+                changed = true;
+            }
+        }
+        return changed ? List.copyOf(result) : previous;
+    }
+}
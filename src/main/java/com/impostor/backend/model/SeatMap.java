@@ -0,0 +1,96 @@
+package com.impostor.backend.model;
+
+import java.util.*;
+
+/**
+ * Map view keyed by player id over values a {@link Room} stores by seat. A
+ * player's seat is their index in the room's player list, so the room keeps
+ * one array slot per player instead of a map entry holding a copy of the id.
+ * <p>
+ * Lookups scan the player list, which is cheap at room sizes. Like the room
+ * itself, the view is guarded by the room lock.
+ */
+abstract class SeatMap extends AbstractMap<String, String> {
+
+    private final Room room;
+
+    SeatMap(Room room) {
+        this.room = room;
+    }
+
+    /**
+     * @return the value at the seat, or {@code null} if empty
+     */
+    protected abstract String getAt(int seat);
+
+    /**
+     * Stores the value, or empties the seat when {@code value} is {@code null}.
+     */
+    protected abstract void setAt(int seat, String value);
+
+    protected abstract int capacity();
+
+    @Override
+    public String get(Object key) {
+        int seat = room.seatOf(key);
+        return seat < 0 || seat >= capacity() ? null : getAt(seat);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        int seat = room.seatOf(key);
+        if (seat < 0)
+            throw new IllegalArgumentException("Player not in room: " + key);
+        String previous = get(key);
+        setAt(seat, Objects.requireNonNull(value));
+        return previous;
+    }
+
+    @Override
+    public String remove(Object key) {
+        String previous = get(key);
+        if (previous != null)
+            setAt(room.seatOf(key), null);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        for (int seat = 0; seat < capacity(); seat++) {
+            setAt(seat, null);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                List<Entry<String, String>> entries = new ArrayList<>();
+                int seats = Math.min(capacity(), room.getPlayers().size());
+                for (int seat = 0; seat < seats; seat++) {
+                    String value = getAt(seat);
+                    if (value != null)
+                        entries.add(new SimpleImmutableEntry<>(room.getPlayers().get(seat).getId(), value));
+                }
+                return entries.iterator();
+            }
+
+            @Override
+            public int size() {
+                int count = 0;
+                int seats = Math.min(capacity(), room.getPlayers().size());
+                for (int seat = 0; seat < seats; seat++) {
+                    if (getAt(seat) != null)
+                        count++;
+                }
+                return count;
+            }
+        };
+    }
+}
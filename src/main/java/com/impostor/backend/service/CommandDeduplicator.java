@@ -0,0 +1,100 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.dto.DedupeStatsDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drops STOMP commands a client resends after a flaky network hides the
+ * first delivery. Each session remembers its last
+ * {@code impostor.dedupe.window-size} message ids for
+ * {@code impostor.dedupe.window-ms}, in a fixed ring that is overwritten
+ * oldest first and freed when the session closes. Commands without an id
+ * always go through.
+ */
+@Service
+public class CommandDeduplicator {
+
+    static final int MAX_MESSAGE_ID_LENGTH = 64;
+
+    private final Clock clock;
+    private final long windowMillis;
+    private final int windowSize;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    @Autowired
+    public CommandDeduplicator(@Value("${impostor.dedupe.window-ms:30000}") long windowMillis,
+            @Value("${impostor.dedupe.window-size:32}") int windowSize) {
+        this(Clock.systemUTC(), windowMillis, windowSize);
+    }
+
+    CommandDeduplicator(Clock clock, long windowMillis, int windowSize) {
+        this.clock = clock;
+        this.windowMillis = windowMillis;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Records the id for the session.
+     *
+     * @return false if the session already sent it within the window
+     */
+    public boolean firstSeen(String sessionId, String messageId) {
+        if (sessionId == null || messageId == null || messageId.isEmpty()
+                || messageId.length() > MAX_MESSAGE_ID_LENGTH)
+            return true;
+
+        checked.increment();
+        Window window = windows.computeIfAbsent(sessionId, id -> new Window(windowSize));
+        if (window.record(messageId, clock.millis(), windowMillis))
+            return true;
+        suppressed.increment();
+        return false;
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        windows.remove(event.getSessionId());
+    }
+
+    public DedupeStatsDTO snapshot() {
+        return new DedupeStatsDTO(windowSize, windowMillis, windows.size(), checked.sum(), suppressed.sum());
+    }
+
+    private static class Window {
+        private final String[] ids;
+        private final int[] hashes;
+        private final long[] seenAt;
+        private int next;
+
+        Window(int size) {
+            ids = new String[size];
+            hashes = new int[size];
+            seenAt = new long[size];
+        }
+
+        synchronized boolean record(String messageId, long now, long ttl) {
+            int hash = messageId.hashCode();
+            for (int i = 0; i < ids.length; i++) {
+                if (hashes[i] == hash && ids[i] != null && now - seenAt[i] < ttl && ids[i].equals(messageId))
+                    return false;
+            }
+            ids[next] = messageId;
+            hashes[next] = hash;
+            seenAt[next] = now;
+            next = (next + 1) % ids.length;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.model.PresenceStatus;
+import lombok.Value;
+
+/**
+ * An inbound player action against a room, as understood by {@link GameReducer}.
+ */
+@Value
+public class GameCommand {
+
+    public enum Type {
+        START,
+        CATEGORY,
+        WORD,
+        CLUE,
+        VOTE,
+        RESET,
+        PRESENCE
+    }
+
+    Type type;
+    String playerId;
+    String value;
+
+    public static GameCommand start() {
+        return new GameCommand(Type.START, null, null);
+    }
+
+    public static GameCommand category(String playerId, String category) {
+        return new GameCommand(Type.CATEGORY, playerId, category);
+    }
+
+    public static GameCommand word(String playerId, String word) {
+        return new GameCommand(Type.WORD, playerId, word);
+    }
+
+    public static GameCommand clue(String playerId, String clue) {
+        return new GameCommand(Type.CLUE, playerId, clue);
+    }
+
+    public static GameCommand vote(String voterId, String votedPlayerId) {
+        return new GameCommand(Type.VOTE, voterId, votedPlayerId);
+    }
+
+    public static GameCommand reset() {
+        return new GameCommand(Type.RESET, null, null);
+    }
+
+    public static GameCommand presence(String playerId, PresenceStatus status) {
+        return new GameCommand(Type.PRESENCE, playerId, status.name());
+    }
+}
@@ -0,0 +1,35 @@
+package com.impostor.backend.service;
+
+import lombok.Value;
+
+/**
+ * An outbound message produced by {@link GameReducer}. Delivery is left to
+ * {@link GameEventDispatcher}. {@link Type#INTERNAL} events never reach clients
+ * or other nodes; they only feed in-process listeners such as stats.
+ */
+@Value
+public class GameEvent {
+
+    public enum Type {
+        BROADCAST,
+        USER,
+        INTERNAL
+    }
+
+    Type type;
+    String user;
+    String destination;
+    Object payload;
+
+    public static GameEvent broadcast(String destination, Object payload) {
+        return new GameEvent(Type.BROADCAST, null, destination, payload);
+    }
+
+    public static GameEvent toUser(String user, String destination, Object payload) {
+        return new GameEvent(Type.USER, user, destination, payload);
+    }
+
+    public static GameEvent internal(Object payload) {
+        return new GameEvent(Type.INTERNAL, null, null, payload);
+    }
+}
@@ -0,0 +1,139 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.cluster.RoomEventBus;
+import com.impostor.backend.dto.RoomStatusDTO;
+import com.impostor.backend.jfr.RoomBroadcastEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.messaging.core.MessagePostProcessor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers {@link GameEvent}s off the caller's thread. Events for the same room
+ * always go through the same lane, so clients see them in the order they were
+ * produced. Once delivered locally, events are handed to the {@link RoomEventBus}
+ * for players connected to other nodes; {@link GameEvent.Type#INTERNAL} events
+ * stay on the node that produced them.
+ */
+@Component
+public class GameEventDispatcher {
+
+    /**
+     * Message header holding the payload object a frame was converted from,
+     * so outbound codecs can encode it directly instead of re-parsing JSON.
+     */
+    public static final String PAYLOAD_HEADER = "impostor.payload";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomEventBus eventBus;
+    private final ExecutorService[] lanes;
+    private final List<Consumer<GameEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    public GameEventDispatcher(SimpMessagingTemplate messagingTemplate, RoomEventBus eventBus) {
+        this.messagingTemplate = messagingTemplate;
+        this.eventBus = eventBus;
+        this.lanes = new ExecutorService[Runtime.getRuntime().availableProcessors()];
+        for (int i = 0; i < lanes.length; i++) {
+            String name = "game-dispatch-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        eventBus.subscribe(this::deliverRemote);
+    }
+
+    /**
+     * Registers an in-process consumer that sees every event delivered on this
+     * node, on the room's lane, after the broker.
+     */
+    public void addListener(Consumer<GameEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Queues the events on the room's lane without waiting for delivery. Call
+     * with the room lock held, so events from different threads are queued in
+     * the order they were produced.
+     */
+    public void dispatch(String roomCode, List<GameEvent> events) {
+        if (events.isEmpty())
+            return;
+        laneFor(roomCode).execute(() -> {
+            events.forEach(event -> deliver(roomCode, event));
+            // Internal events feed listeners on the node that produced them, so they are counted once
+            List<GameEvent> shared = events.stream()
+                    .filter(event -> event.getType() != GameEvent.Type.INTERNAL)
+                    .collect(Collectors.toList());
+            if (!shared.isEmpty())
+                eventBus.publish(roomCode, shared);
+        });
+    }
+
+    private void deliverRemote(String roomCode, List<GameEvent> events) {
+        laneFor(roomCode).execute(() -> events.forEach(event -> deliver(roomCode, event)));
+    }
+
+    private ExecutorService laneFor(String roomCode) {
+        return lanes[Math.floorMod(roomCode.hashCode(), lanes.length)];
+    }
+
+    private void deliver(String roomCode, GameEvent event) {
+        RoomBroadcastEvent recorded = new RoomBroadcastEvent();
+        recorded.begin();
+        try {
+            // The post-processor sees the converted bytes, so sizing costs no extra serialization
+            MessagePostProcessor sized = !recorded.isEnabled() ? null : message -> {
+                if (message.getPayload() instanceof byte[])
+                    recorded.payloadSize = ((byte[]) message.getPayload()).length;
+                return message;
+            };
+            if (event.getType() != GameEvent.Type.INTERNAL) {
+                // Carried to every subscriber's copy but never put on the wire
+                SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+                headers.setHeader(PAYLOAD_HEADER, event.getPayload());
+                headers.setLeaveMutable(true);
+                if (event.getType() == GameEvent.Type.USER) {
+                    messagingTemplate.convertAndSendToUser(event.getUser(), event.getDestination(),
+                            event.getPayload(), headers.getMessageHeaders(), sized);
+                } else {
+                    messagingTemplate.convertAndSend(event.getDestination(), event.getPayload(),
+                            headers.getMessageHeaders(), sized);
+                }
+            }
+
+            recorded.end();
+            if (event.getType() != GameEvent.Type.INTERNAL && recorded.shouldCommit()) {
+                recorded.roomCode = roomCode;
+                recorded.destination = event.getDestination();
+                recorded.toUser = event.getType() == GameEvent.Type.USER;
+                if (event.getPayload() instanceof RoomStatusDTO)
+                    recorded.playerCount = ((RoomStatusDTO) event.getPayload()).getPlayers().size();
+                recorded.commit();
+            }
+
+            for (Consumer<GameEvent> listener : listeners) {
+                listener.accept(event);
+            }
+        } catch (Exception e) {
+            System.err.println("ERROR delivering " + event.getDestination() + ": ");
+            e.printStackTrace();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
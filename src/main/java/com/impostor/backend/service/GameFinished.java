@@ -0,0 +1,20 @@
+package com.impostor.backend.service;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Outcome of a finished game, emitted as an internal {@link GameEvent}.
+ * Players are identified by username so results survive reconnects.
+ */
+@Value
+public class GameFinished {
+    String roomCode;
+    String impostor;
+    boolean impostorWon;
+    // Everyone who was dealt a role, impostor excluded, including ejected players
+    List<String> crew;
+    // Crew members whose vote ejected the impostor; empty when the impostor won
+    List<String> finders;
+}
@@ -0,0 +1,519 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.dto.ClueDTO;
+import com.impostor.backend.dto.PrivatePlayerStateDTO;
+import com.impostor.backend.dto.RoomStatusDTO;
+import com.impostor.backend.jfr.GamePhaseEvent;
+import com.impostor.backend.model.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Game rules. Applies a {@link GameCommand} to a {@link Room} and collects the
+ * messages that result from it; nothing in here touches the network.
+ */
+public class GameReducer {
+
+    static final int MAX_CLUE_LENGTH = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(GameReducer.class);
+
+    private final Random random;
+
+    public GameReducer() {
+        this(new Random());
+    }
+
+    public GameReducer(Random random) {
+        this.random = random;
+    }
+
+    public GameTransition reduce(Room room, GameCommand command) {
+        List<GameEvent> events = new ArrayList<>();
+        switch (command.getType()) {
+            case START -> startGame(room, events);
+            case CATEGORY -> submitCategory(room, command.getPlayerId(), command.getValue(), events);
+            case WORD -> submitWord(room, command.getPlayerId(), command.getValue(), events);
+            case CLUE -> submitClue(room, command.getPlayerId(), command.getValue(), events);
+            case VOTE -> vote(room, command.getPlayerId(), command.getValue(), events);
+            case RESET -> resetGame(room, events);
+            case PRESENCE -> updatePresence(room, command.getPlayerId(),
+                    PresenceStatus.valueOf(command.getValue()), events);
+        }
+        return new GameTransition(room, events);
+    }
+
+    public GameEvent roomUpdate(Room room, String message) {
+        // The payload is built from an immutable snapshot, so it can be serialized on any thread
+        RoomStatusDTO status = RoomStatusDTO.of(room.publishSnapshot(), message);
+        return GameEvent.broadcast("/topic/room/" + room.getRoomCode(), status);
+    }
+
+    private void startGame(Room room, List<GameEvent> events) {
+        if (room.getPlayers().size() < 3) {
+            // Minimum 3 players needed
+            return;
+        }
+
+        room.reset();
+        room.setGameState(GameState.ASSIGN_ROLES);
+        room.setCurrentRound(0);
+
+        // Assign Impostor
+        List<Player> players = room.getPlayers();
+        Player impostor = players.get(random.nextInt(players.size()));
+        impostor.setRole(Role.IMPOSTOR);
+        room.setImpostorId(impostor.getId());
+        room.setImpostorName(impostor.getUsername());
+
+        for (Player p : players) {
+            if (!p.getId().equals(impostor.getId())) {
+                p.setRole(Role.PLAYER);
+            }
+            // Notify each player of their role
+            PrivatePlayerStateDTO dto = new PrivatePlayerStateDTO(
+                    p.getRole().toString(),
+                    null,
+                    null,
+                    "Role Assigned: " + p.getRole());
+            events.add(privateUpdate(p, dto));
+        }
+
+        // Move to Category Input
+        room.setGameState(GameState.CATEGORY_INPUT);
+        events.add(roomUpdate(room, "Waiting for Category suggestions..."));
+    }
+
+    private void submitCategory(Room room, String playerId, String category, List<GameEvent> events) {
+        if (room.getGameState() != GameState.CATEGORY_INPUT)
+            return;
+
+        if (getPlayer(room, playerId) == null)
+            return;
+
+        room.getCategorySuggestions().put(playerId, category);
+
+        closeCategoryInputIfComplete(room, events);
+    }
+
+    private void closeCategoryInputIfComplete(Room room, List<GameEvent> events) {
+        boolean complete = !room.getCategorySuggestions().isEmpty() && room.getPlayers().stream()
+                .filter(this::isAwaited)
+                .allMatch(p -> room.getCategorySuggestions().containsKey(p.getId()));
+        if (complete) {
+            // Everyone submitted
+            List<String> values = new ArrayList<>(room.getCategorySuggestions().values());
+            String selected = values.get(random.nextInt(values.size()));
+            room.setSelectedCategory(selected);
+
+            room.setGameState(GameState.WORD_INPUT);
+            events.add(roomUpdate(room, "Category Selected: " + selected + ". Waiting for words..."));
+
+            // Notify everyone of the category
+            room.getPlayers().forEach(p -> {
+                PrivatePlayerStateDTO dto = new PrivatePlayerStateDTO(
+                        p.getRole().toString(),
+                        selected,
+                        null,
+                        "Category is: " + selected);
+                events.add(privateUpdate(p, dto));
+            });
+        }
+    }
+
+    private void submitWord(Room room, String playerId, String word, List<GameEvent> events) {
+        if (room.getGameState() != GameState.WORD_INPUT)
+            return;
+
+        Player player = getPlayer(room, playerId);
+        if (player == null || player.getRole() == Role.IMPOSTOR)
+            return;
+
+        room.getWordSuggestions().put(playerId, word);
+
+        closeWordInputIfComplete(room, events);
+    }
+
+    private void closeWordInputIfComplete(Room room, List<GameEvent> events) {
+        boolean complete = !room.getWordSuggestions().isEmpty() && room.getPlayers().stream()
+                .filter(p -> p.getRole() == Role.PLAYER && isAwaited(p))
+                .allMatch(p -> room.getWordSuggestions().containsKey(p.getId()));
+        if (complete) {
+            List<String> values = new ArrayList<>(room.getWordSuggestions().values());
+            String selected = values.get(random.nextInt(values.size()));
+            room.setSelectedWord(selected);
+
+            room.setCurrentRound(1);
+
+            determineFirstSpeaker(room);
+            beginClueRound(room);
+
+            events.add(roomUpdate(room, "Word Selected! Round 1 Begins."));
+
+            // Notify players of the word (Impostor gets ???)
+            room.getPlayers().forEach(p -> {
+                String wordToSend = (p.getRole() == Role.IMPOSTOR) ? "???" : selected;
+                PrivatePlayerStateDTO dto = new PrivatePlayerStateDTO(
+                        p.getRole().toString(),
+                        room.getSelectedCategory(),
+                        wordToSend,
+                        "Game Started!");
+                events.add(privateUpdate(p, dto));
+            });
+        }
+    }
+
+    private void submitClue(Room room, String playerId, String clue, List<GameEvent> events) {
+        if (room.getGameState() != GameState.CLUE_INPUT || !Objects.equals(playerId, room.getCurrentSpeakerId()))
+            return; // Not this player's turn
+        if (clue == null || clue.isBlank())
+            return;
+
+        Player player = getPlayer(room, playerId);
+        if (player == null)
+            return;
+
+        String text = clue.strip();
+        if (text.length() > MAX_CLUE_LENGTH)
+            text = text.substring(0, MAX_CLUE_LENGTH);
+        long seq = room.getClueLog().append(room.getCurrentRound(), playerId, player.getUsername(), text);
+
+        room.setClueTurn(room.getClueTurn() + 1);
+        String nextSpeakerId = advanceSpeaker(room);
+
+        // Only the new clue goes out; clients keep their own history
+        ClueLog.Clue added = new ClueLog.Clue(seq, room.getCurrentRound(), playerId, player.getUsername(), text);
+        events.add(GameEvent.broadcast("/topic/room/" + room.getRoomCode() + "/clues",
+                ClueDTO.of(added, nextSpeakerId)));
+
+        if (nextSpeakerId == null) {
+            openVoting(room, events);
+        } else {
+            // Keep REST readers current without broadcasting the full room
+            room.publishSnapshot();
+        }
+    }
+
+    /**
+     * Starts the clue phase of the current round at {@code firstSpeakerId}. Goes
+     * straight to voting if nobody is left to speak.
+     */
+    private void beginClueRound(Room room) {
+        room.setGameState(GameState.CLUE_INPUT);
+        room.setClueTurn(0);
+        if (advanceSpeaker(room) == null) {
+            room.setGameState(GameState.VOTING);
+        }
+    }
+
+    /**
+     * Moves the turn to the next connected speaker, starting at {@code clueTurn}.
+     *
+     * @return the new speaker, or {@code null} if the round has no one left to speak
+     */
+    private String advanceSpeaker(Room room) {
+        List<Player> order = speakingOrder(room);
+        int turn = room.getClueTurn();
+        while (turn < order.size() && !isAwaited(order.get(turn))) {
+            turn++;
+        }
+        room.setClueTurn(turn);
+        room.setCurrentSpeakerId(turn < order.size() ? order.get(turn).getId() : null);
+        return room.getCurrentSpeakerId();
+    }
+
+    /**
+     * Active players rotated so the round's first speaker comes first.
+     */
+    private List<Player> speakingOrder(Room room) {
+        List<Player> active = room.getPlayers().stream()
+                .filter(p -> p.getRole() != Role.SPECTATOR)
+                .collect(Collectors.toList());
+        int start = 0;
+        for (int i = 0; i < active.size(); i++) {
+            if (active.get(i).getId().equals(room.getFirstSpeakerId())) {
+                start = i;
+                break;
+            }
+        }
+        Collections.rotate(active, -start);
+        return active;
+    }
+
+    private void skipSpeakerIfGone(Room room, Player player, List<GameEvent> events) {
+        if (!player.getId().equals(room.getCurrentSpeakerId()))
+            return;
+        room.setClueTurn(room.getClueTurn() + 1);
+        Player next = getPlayer(room, advanceSpeaker(room));
+        if (next == null) {
+            openVoting(room, events);
+        } else {
+            events.add(roomUpdate(room, next.getUsername() + "'s turn to give a clue."));
+        }
+    }
+
+    private void openVoting(Room room, List<GameEvent> events) {
+        room.setGameState(GameState.VOTING);
+        room.setCurrentSpeakerId(null);
+        events.add(roomUpdate(room, "All clues are in. Time to vote!"));
+    }
+
+    private void vote(Room room, String voterId, String votedPlayerId, List<GameEvent> events) {
+        if (!isVotingState(room.getGameState()))
+            return;
+
+        Player voter = getPlayer(room, voterId);
+        if (voter == null || voter.getRole() == Role.SPECTATOR)
+            return; // Spectators can't vote
+
+        if (getPlayer(room, votedPlayerId) == null)
+            return; // Unknown target
+
+        if (room.isTieBreaker() && !room.getTiedPlayerIds().contains(votedPlayerId)) {
+            // Can only vote for tied players
+            return;
+        }
+
+        room.getVotes().put(voterId, votedPlayerId);
+
+        closeVotingIfComplete(room, events);
+    }
+
+    private void closeVotingIfComplete(Room room, List<GameEvent> events) {
+        List<Player> voters = room.getPlayers().stream()
+                .filter(p -> p.getRole() != Role.SPECTATOR && isAwaited(p))
+                .collect(Collectors.toList());
+        long cast = voters.stream().filter(p -> room.getVotes().containsKey(p.getId())).count();
+
+        if (cast > 0 && cast >= voters.size()) {
+            GamePhaseEvent phase = GamePhaseEvent.begin(room, "RESULTS");
+            try {
+                calculateResults(room, events);
+                phase.complete(room, events.size());
+            } catch (Exception e) {
+                log.error("Results failed in room {}", room.getRoomCode(), e);
+            }
+        }
+    }
+
+    private void calculateResults(Room room, List<GameEvent> events) {
+        Map<String, Long> voteCounts = room.getVotes().values().stream()
+                .collect(Collectors.groupingBy(id -> id, Collectors.counting()));
+
+        long maxVotes = voteCounts.values().stream().mapToLong(v -> v).max().orElse(0);
+
+        List<String> maxVoteIds = voteCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() == maxVotes)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        String ejectedId = null;
+
+        if (maxVoteIds.size() > 1) {
+            // Tie detected
+            if (!room.isTieBreaker()) {
+                // First tie -> Trigger Tie Breaker Round
+                room.setTieBreaker(true);
+                room.setTiedPlayerIds(maxVoteIds);
+                room.getVotes().clear();
+
+                // Construct names string
+                String names = room.getPlayers().stream()
+                        .filter(p -> maxVoteIds.contains(p.getId()))
+                        .map(Player::getUsername)
+                        .collect(Collectors.joining(", "));
+
+                events.add(roomUpdate(room, "Empate! Votación de desempate entre: " + names));
+                return; // Do NOT advance round, stay in VOTING
+            } else {
+                // Second tie (Tie Breaker) -> Random Ejection
+                ejectedId = maxVoteIds.get(random.nextInt(maxVoteIds.size()));
+                room.setTieBreaker(false);
+                room.getTiedPlayerIds().clear();
+                events.add(roomUpdate(room, "Desempate fallido. Expulsión aleatoria."));
+            }
+        } else if (maxVoteIds.size() == 1) {
+            ejectedId = maxVoteIds.get(0);
+            // Ensure tie breaker state is cleared if resolved
+            room.setTieBreaker(false);
+            room.getTiedPlayerIds().clear();
+        } else {
+            // No votes?
+            events.add(roomUpdate(room, "Nadie votó (Tie)."));
+        }
+
+        Map<String, String> castVotes = new HashMap<>(room.getVotes());
+        room.getVotes().clear();
+
+        if (ejectedId != null) {
+            Player ejected = getPlayer(room, ejectedId);
+            if (ejected != null) {
+                if (ejected.getRole() == Role.IMPOSTOR) {
+                    String impostorId = ejectedId;
+                    List<String> finders = castVotes.entrySet().stream()
+                            .filter(vote -> vote.getValue().equals(impostorId))
+                            .map(vote -> getPlayer(room, vote.getKey()))
+                            .filter(Objects::nonNull)
+                            .map(Player::getUsername)
+                            .collect(Collectors.toList());
+                    finishGame(room, "Impostor Ejected! Players Win!", finders, events);
+                    return;
+                } else {
+                    ejected.setRole(Role.SPECTATOR);
+                    events.add(roomUpdate(room, ejected.getUsername() + " was NOT the Impostor."));
+                }
+            }
+        }
+
+        // Check if Impostor wins by 1v1
+        long activePlayers = room.getPlayers().stream()
+                .filter(p -> p.getRole() != Role.SPECTATOR)
+                .count();
+
+        boolean impostorAlive = room.getPlayers().stream()
+                .anyMatch(p -> p.getRole() == Role.IMPOSTOR);
+
+        if (activePlayers <= 2 && impostorAlive) {
+            finishGame(room, "Impostor Wins! (1v1 Situation)", null, events);
+            return;
+        }
+
+        // Next Round Logic
+
+        GameState nextState = getNextRound(room);
+        if (nextState == GameState.FINISHED) {
+            finishGame(room, "Impostor Survived! Impostor Wins!", null, events);
+        } else {
+            room.setGameState(nextState);
+            determineFirstSpeaker(room);
+            beginClueRound(room);
+            events.add(roomUpdate(room, "Starting Round " + room.getCurrentRound()));
+        }
+    }
+
+    /**
+     * @param finders usernames that voted out the impostor, or {@code null} if the impostor won
+     */
+    private void finishGame(Room room, String message, List<String> finders, List<GameEvent> events) {
+        GamePhaseEvent phase = GamePhaseEvent.begin(room, "FINISH");
+        room.setPreviousGameLastFirstSpeakerId(room.getFirstSpeakerId());
+        room.setGameState(GameState.FINISHED);
+        events.add(roomUpdate(room, message));
+
+        List<String> crew = room.getPlayers().stream()
+                .filter(p -> p.getRole() != null && !p.getId().equals(room.getImpostorId()))
+                .map(Player::getUsername)
+                .collect(Collectors.toList());
+        events.add(GameEvent.internal(new GameFinished(
+                room.getRoomCode(),
+                room.getImpostorName(),
+                finders == null,
+                crew,
+                finders == null ? List.of() : finders)));
+        phase.complete(room, 2);
+    }
+
+    private void updatePresence(Room room, String playerId, PresenceStatus status, List<GameEvent> events) {
+        Player player = getPlayer(room, playerId);
+        if (player == null || player.getPresence() == status)
+            return;
+
+        player.setPresence(status);
+        switch (status) {
+            case ONLINE -> events.add(roomUpdate(room, player.getUsername() + " reconnected."));
+            case RECONNECTING -> events.add(roomUpdate(room, player.getUsername() + " lost connection."));
+            case OFFLINE -> {
+                if (room.getGameState() == GameState.LOBBY) {
+                    room.getPlayers().remove(player);
+                    events.add(roomUpdate(room, player.getUsername() + " left."));
+                    return;
+                }
+                events.add(roomUpdate(room, player.getUsername() + " left the game."));
+                // Stop waiting on them
+                switch (room.getGameState()) {
+                    case CATEGORY_INPUT -> closeCategoryInputIfComplete(room, events);
+                    case WORD_INPUT -> closeWordInputIfComplete(room, events);
+                    case CLUE_INPUT -> skipSpeakerIfGone(room, player, events);
+                    case VOTING -> closeVotingIfComplete(room, events);
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+
+    private void resetGame(Room room, List<GameEvent> events) {
+        room.reset();
+        events.add(roomUpdate(room, "Game Reset to Lobby"));
+    }
+
+    private GameState getNextRound(Room room) {
+        int nextRound = room.getCurrentRound() + 1;
+        if (nextRound > room.getMaxRounds()) {
+            return GameState.FINISHED;
+        }
+        room.setCurrentRound(nextRound);
+        return GameState.CLUE_INPUT;
+    }
+
+    private boolean isAwaited(Player player) {
+        return player.getPresence() != PresenceStatus.OFFLINE;
+    }
+
+    private boolean isVotingState(GameState state) {
+        return state == GameState.VOTING;
+    }
+
+    private Player getPlayer(Room room, String playerId) {
+        return room.getPlayers().stream().filter(p -> p.getId().equals(playerId)).findFirst().orElse(null);
+    }
+
+    private GameEvent privateUpdate(Player player, PrivatePlayerStateDTO dto) {
+        return GameEvent.toUser(player.getId(), "/queue/game", dto);
+    }
+
+    private void determineFirstSpeaker(Room room) {
+        List<Player> activePlayers = room.getPlayers().stream()
+                .filter(p -> p.getRole() != Role.SPECTATOR)
+                .collect(Collectors.toList());
+
+        if (activePlayers.isEmpty())
+            return;
+
+        if (room.getCurrentRound() == 1) {
+            String targetId = room.getPreviousGameLastFirstSpeakerId();
+            boolean found = false;
+            if (targetId != null) {
+                for (Player p : activePlayers) {
+                    if (p.getId().equals(targetId)) {
+                        room.setFirstSpeakerId(targetId);
+                        found = true;
+                        break;
+                    }
+                }
+            }
+
+            if (!found) {
+                room.setFirstSpeakerId(activePlayers.get(random.nextInt(activePlayers.size())).getId());
+            }
+        } else {
+            String currentSpeakerId = room.getFirstSpeakerId();
+            int index = -1;
+            for (int i = 0; i < activePlayers.size(); i++) {
+                if (activePlayers.get(i).getId().equals(currentSpeakerId)) {
+                    index = i;
+                    break;
+                }
+            }
+
+            // If current speaker not found (e.g. eliminated), index is -1, nextIndex is 0
+            // (first player)
+            int nextIndex = (index + 1) % activePlayers.size();
+            room.setFirstSpeakerId(activePlayers.get(nextIndex).getId());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.model.Room;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Result of applying a {@link GameCommand}: the room after the change and the
+ * messages to send, in order.
+ */
+@Value
+public class GameTransition {
+    Room room;
+    List<GameEvent> events;
+}
@@ -0,0 +1,311 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.dto.PlayerStatsDTO;
+import com.impostor.backend.store.StatsStore;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Per-username win/loss counters fed by {@link GameFinished} events.
+ * <p>
+ * Counters are {@link LongAdder}s, so concurrent games never contend on a
+ * shared cell. The leaderboard is a sorted set of the best
+ * {@value #LEADERBOARD_SIZE} players, updated on every win; moving a player in
+ * it only locks that player's own stats. Wins never go down, so a player pushed
+ * out can only get back in by winning, which puts them back in the set.
+ * <p>
+ * Persistence is write-behind: an update only marks the player dirty, and a
+ * writer thread saves all dirty players to the {@link StatsStore} in one batch
+ * per flush. A player finishing many games between flushes is written once.
+ * <p>
+ * With a persistent store, at most {@code impostor.stats.max-players} players
+ * stay in memory: each flush evicts saved ones beyond that, and they are read
+ * back on demand. Players a finished game finds cold are loaded on the writer
+ * thread, so the dispatcher lane never waits on the disk.
+ */
+@Service
+public class PlayerStatsService {
+
+    /** Most players {@link #top} can return. */
+    public static final int LEADERBOARD_SIZE = 100;
+
+    private static final Comparator<Rank> BY_WINS = Comparator.comparingLong(Rank::getWins).reversed()
+            .thenComparing(Rank::getUsername);
+
+    private final ConcurrentHashMap<String, PlayerStats> players = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Rank> leaderboard = new ConcurrentSkipListSet<>(BY_WINS);
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final StatsStore store;
+    private final int maxPlayers;
+    private final ScheduledExecutorService writer;
+
+    public PlayerStatsService(GameEventDispatcher dispatcher, StatsStore store,
+            @Value("${impostor.stats.flush-ms:1000}") long flushMillis,
+            @Value("${impostor.stats.max-players:100000}") int maxPlayers) {
+        this.store = store;
+        this.maxPlayers = maxPlayers;
+        store.forEach(stats -> {
+            if (stats.getWins() > 0)
+                rank(null, new Rank(stats.getWins(), stats.getUsername()));
+        });
+
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "stats-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        dispatcher.addListener(this::onEvent);
+    }
+
+    /**
+     * Loads a player's saved stats ahead of their first finished game, so the
+     * game handler that records it does not have to read from disk.
+     */
+    public void warm(String username) {
+        if (players.containsKey(username))
+            return;
+        PlayerStatsDTO saved = store.load(username);
+        if (saved != null) {
+            players.putIfAbsent(username, new PlayerStats(username, saved));
+        }
+    }
+
+    /**
+     * {@link #warm} for many players with one store call, e.g. the hosts of a
+     * batch of rooms.
+     */
+    public void warmAll(Collection<String> usernames) {
+        List<String> cold = usernames.stream().filter(u -> !players.containsKey(u)).collect(Collectors.toList());
+        if (cold.isEmpty())
+            return;
+        store.loadAll(cold).forEach((username, saved) ->
+                players.putIfAbsent(username, new PlayerStats(username, saved)));
+    }
+
+    public void record(GameFinished game) {
+        outcomes(game).forEach(outcome -> update(outcome, true));
+    }
+
+    /**
+     * @return stats for the player, or {@code null} if they never finished a game
+     */
+    public PlayerStatsDTO getStats(String username) {
+        PlayerStats stats = players.get(username);
+        return stats == null ? store.load(username) : stats.toDTO();
+    }
+
+    /**
+     * Best {@code limit} players by wins. Walks only the head of the
+     * leaderboard, never the whole player set.
+     */
+    public List<PlayerStatsDTO> top(int limit) {
+        return leaderboard.stream()
+                .limit(limit)
+                .map(rank -> getStats(rank.getUsername()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Saves every player changed since the last flush in one batch.
+     */
+    public synchronized void flush() {
+        List<PlayerStatsDTO> batch = new ArrayList<>();
+        for (Iterator<String> it = dirty.iterator(); it.hasNext();) {
+            String username = it.next();
+            // Remove before reading, so an update racing this flush marks the player again
+            it.remove();
+            PlayerStats stats = players.get(username);
+            if (stats != null)
+                batch.add(stats.toDTO());
+        }
+        if (batch.isEmpty())
+            return;
+
+        try {
+            store.saveAll(batch);
+        } catch (RuntimeException e) {
+            System.err.println("ERROR saving stats for " + batch.size() + " players, will retry: ");
+            e.printStackTrace();
+            batch.forEach(stats -> dirty.add(stats.getUsername()));
+        }
+        evictSaved();
+    }
+
+    int cachedPlayers() {
+        return players.size();
+    }
+
+    int rankedPlayers() {
+        return leaderboard.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    private void onEvent(GameEvent event) {
+        if (!(event.getPayload() instanceof GameFinished))
+            return;
+        List<Outcome> cold = new ArrayList<>();
+        for (Outcome outcome : outcomes((GameFinished) event.getPayload())) {
+            if (!update(outcome, false))
+                cold.add(outcome);
+        }
+        if (!cold.isEmpty()) {
+            // Usually warmed on join; the rest are read from the store off the dispatcher lane
+            writer.execute(() -> cold.forEach(outcome -> update(outcome, true)));
+        }
+    }
+
+    private static List<Outcome> outcomes(GameFinished game) {
+        Set<String> finders = new HashSet<>(game.getFinders());
+        List<Outcome> outcomes = new ArrayList<>(game.getCrew().size() + 1);
+        if (game.getImpostor() != null) {
+            outcomes.add(new Outcome(game.getImpostor(), true, game.isImpostorWon(), false));
+        }
+        for (String username : game.getCrew()) {
+            outcomes.add(new Outcome(username, false, !game.isImpostorWon(), finders.contains(username)));
+        }
+        return outcomes;
+    }
+
+    /**
+     * @return false if the player is not in memory and {@code load} is not set
+     */
+    private boolean update(Outcome outcome, boolean load) {
+        String username = outcome.getUsername();
+        PlayerStats stats = pin(username, load);
+        if (stats == null)
+            return false;
+        try {
+            stats.gamesPlayed.increment();
+            if (outcome.isImpostor()) {
+                stats.impostorGames.increment();
+                if (outcome.isWon())
+                    stats.impostorWins.increment();
+            }
+            if (outcome.isFound())
+                stats.impostorsFound.increment();
+
+            if (outcome.isWon()) {
+                synchronized (stats) {
+                    Rank previous = stats.rank;
+                    Rank next = new Rank(previous == null ? 1 : previous.getWins() + 1, username);
+                    rank(previous, next);
+                    stats.rank = next;
+                }
+            }
+            // Dirty before unpinning, so eviction never sees it clean and unpinned mid-update
+            dirty.add(username);
+        } finally {
+            stats.pins.decrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Moves a player up the leaderboard, dropping whoever falls off its end.
+     */
+    private void rank(Rank previous, Rank next) {
+        if (previous != null)
+            leaderboard.remove(previous);
+        leaderboard.add(next);
+        while (leaderboard.size() > LEADERBOARD_SIZE) {
+            leaderboard.pollLast();
+        }
+    }
+
+    /**
+     * Looks up the player and holds them in memory until unpinned.
+     */
+    private PlayerStats pin(String username, boolean load) {
+        PlayerStats cached = players.computeIfPresent(username, (name, stats) -> {
+            stats.pins.incrementAndGet();
+            return stats;
+        });
+        if (cached != null || !load)
+            return cached;
+        PlayerStats loaded = new PlayerStats(username, store.load(username));
+        return players.compute(username, (name, stats) -> {
+            PlayerStats result = stats != null ? stats : loaded;
+            result.pins.incrementAndGet();
+            return result;
+        });
+    }
+
+    /**
+     * Drops saved players beyond the limit. Only a persistent store can give
+     * them back, so with the in-memory store everyone stays.
+     */
+    private void evictSaved() {
+        if (!store.isPersistent() || players.size() <= maxPlayers)
+            return;
+        for (Iterator<String> it = players.keySet().iterator(); it.hasNext() && players.size() > maxPlayers;) {
+            players.computeIfPresent(it.next(),
+                    (name, stats) -> stats.pins.get() > 0 || dirty.contains(name) ? stats : null);
+        }
+    }
+
+    @lombok.Value
+    private static class Outcome {
+        String username;
+        boolean impostor;
+        boolean won;
+        boolean found;
+    }
+
+    @lombok.Value
+    private static class Rank {
+        long wins;
+        String username;
+    }
+
+    private static class PlayerStats {
+        private final String username;
+        private final LongAdder gamesPlayed = new LongAdder();
+        private final LongAdder impostorGames = new LongAdder();
+        private final LongAdder impostorWins = new LongAdder();
+        private final LongAdder impostorsFound = new LongAdder();
+        // Wins live in the rank so the leaderboard and the counter never disagree
+        private volatile Rank rank;
+        // Updates in progress; a pinned player is not evicted
+        private final AtomicInteger pins = new AtomicInteger();
+
+        PlayerStats(String username, PlayerStatsDTO saved) {
+            this.username = username;
+            if (saved != null) {
+                gamesPlayed.add(saved.getGamesPlayed());
+                impostorGames.add(saved.getImpostorGames());
+                impostorWins.add(saved.getImpostorWins());
+                impostorsFound.add(saved.getImpostorsFound());
+                if (saved.getWins() > 0)
+                    rank = new Rank(saved.getWins(), username);
+            }
+        }
+
+        PlayerStatsDTO toDTO() {
+            long games = gamesPlayed.sum();
+            long wins = rank == null ? 0 : rank.getWins();
+            return new PlayerStatsDTO(
+                    username,
+                    games,
+                    wins,
+                    Math.max(0, games - wins),
+                    impostorGames.sum(),
+                    impostorWins.sum(),
+                    impostorsFound.sum());
+        }
+    }
+}
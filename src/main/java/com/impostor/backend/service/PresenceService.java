@@ -0,0 +1,96 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.model.PresenceStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Tracks which players have a live STOMP session. A player whose last session
+ * closes is marked {@link PresenceStatus#RECONNECTING}; if they do not come back
+ * within the grace period they become {@link PresenceStatus#OFFLINE} and the
+ * room stops waiting for them.
+ */
+@Service
+public class PresenceService {
+
+    private final RoomService roomService;
+    private final GameService gameService;
+    private final ThreadPoolTaskScheduler gameScheduler;
+    private final Duration gracePeriod;
+
+    // sessionId -> playerId, and live session count per playerId
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> openSessions = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> graceTimers = new ConcurrentHashMap<>();
+
+    public PresenceService(RoomService roomService, GameService gameService,
+            ThreadPoolTaskScheduler gameScheduler,
+            @Value("${impostor.presence.grace-ms:30000}") long graceMillis) {
+        this.roomService = roomService;
+        this.gameService = gameService;
+        this.gameScheduler = gameScheduler;
+        this.gracePeriod = Duration.ofMillis(graceMillis);
+    }
+
+    @EventListener
+    public synchronized void onConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        String sessionId = (String) event.getMessage().getHeaders().get("simpSessionId");
+        if (user == null || sessionId == null)
+            return;
+
+        String playerId = user.getName();
+        sessions.put(sessionId, playerId);
+        openSessions.merge(playerId, 1, Integer::sum);
+
+        ScheduledFuture<?> timer = graceTimers.remove(playerId);
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        update(playerId, PresenceStatus.ONLINE);
+    }
+
+    @EventListener
+    public synchronized void onDisconnected(SessionDisconnectEvent event) {
+        // Disconnect can be published more than once per session; only the first counts
+        String playerId = sessions.remove(event.getSessionId());
+        if (playerId == null)
+            return;
+
+        Integer remaining = openSessions.computeIfPresent(playerId, (id, n) -> n > 1 ? n - 1 : null);
+        if (remaining != null)
+            return;
+
+        update(playerId, PresenceStatus.RECONNECTING);
+        graceTimers.put(playerId, gameScheduler.schedule(() -> expire(playerId),
+                gameScheduler.getClock().instant().plus(gracePeriod)));
+    }
+
+    private synchronized void expire(String playerId) {
+        graceTimers.remove(playerId);
+        if (!openSessions.containsKey(playerId)) {
+            update(playerId, PresenceStatus.OFFLINE);
+        }
+    }
+
+    public int getOpenSessionCount() {
+        return sessions.size();
+    }
+
+    private void update(String playerId, PresenceStatus status) {
+        String roomCode = roomService.getRoomCodeOfPlayer(playerId);
+        if (roomCode != null) {
+            roomService.execute(roomCode, () -> gameService.updatePresence(roomCode, playerId, status));
+        }
+    }
+}
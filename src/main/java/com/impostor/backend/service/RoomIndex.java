@@ -0,0 +1,144 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.dto.AdminRoomDTO;
+import com.impostor.backend.dto.AdminRoomPageDTO;
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.model.Room;
+import lombok.Value;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Secondary indexes over live rooms for admin queries: by last activity and
+ * by player count, each overall and per state. Each transition moves only
+ * that room's entries, and a query walks the one index that matches its
+ * filter from the cursor onwards, so nothing scans the whole room map.
+ */
+public class RoomIndex {
+
+    private static final Comparator<Entry> BY_ACTIVITY = Comparator.comparingLong(Entry::getLastActivity)
+            .thenComparing(Entry::getRoomCode);
+    private static final Comparator<Entry> BY_PLAYERS = Comparator.comparingInt(Entry::getPlayerCount).reversed()
+            .thenComparing(Entry::getRoomCode);
+
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> byActivity = new ConcurrentSkipListSet<>(BY_ACTIVITY);
+    private final ConcurrentSkipListSet<Entry> byPlayers = new ConcurrentSkipListSet<>(BY_PLAYERS);
+    private final Map<GameState, ConcurrentSkipListSet<Entry>> byState = new EnumMap<>(GameState.class);
+    private final Map<GameState, ConcurrentSkipListSet<Entry>> byStatePlayers = new EnumMap<>(GameState.class);
+    private final Map<GameState, AtomicInteger> stateCounts = new EnumMap<>(GameState.class);
+
+    public RoomIndex(Clock clock) {
+        this.clock = clock;
+        for (GameState state : GameState.values()) {
+            byState.put(state, new ConcurrentSkipListSet<>(BY_ACTIVITY));
+            byStatePlayers.put(state, new ConcurrentSkipListSet<>(BY_PLAYERS));
+            stateCounts.put(state, new AtomicInteger());
+        }
+    }
+
+    /**
+     * Records activity on the room. Call with the room lock held, so updates
+     * to one room never interleave.
+     */
+    public void update(Room room) {
+        Entry next = new Entry(room.getRoomCode(), room.getGameState(), clock.millis(), room.getPlayers().size());
+        Entry previous = entries.put(next.getRoomCode(), next);
+        if (previous != null)
+            unlink(previous);
+        byActivity.add(next);
+        byPlayers.add(next);
+        byState.get(next.getGameState()).add(next);
+        byStatePlayers.get(next.getGameState()).add(next);
+        stateCounts.get(next.getGameState()).incrementAndGet();
+    }
+
+    public void remove(String roomCode) {
+        Entry previous = entries.remove(roomCode);
+        if (previous != null)
+            unlink(previous);
+    }
+
+    public Map<GameState, Integer> countByState() {
+        Map<GameState, Integer> counts = new EnumMap<>(GameState.class);
+        stateCounts.forEach((state, count) -> counts.put(state, count.get()));
+        return counts;
+    }
+
+    /**
+     * Rooms matching every given filter. Results come least recently active
+     * first, or largest first when only {@code minPlayers} is set.
+     *
+     * @param state          only rooms in this state, or {@code null} for any
+     * @param minIdleMillis  only rooms idle at least this long, or 0
+     * @param minPlayers     only rooms with at least this many players, or 0
+     * @param cursor         {@code nextCursor} of the previous page, or {@code null}
+     */
+    public AdminRoomPageDTO query(GameState state, long minIdleMillis, int minPlayers, int limit, String cursor) {
+        long now = clock.millis();
+        long cutoff = now - minIdleMillis;
+        boolean largestFirst = minIdleMillis <= 0 && minPlayers > 0;
+
+        NavigableSet<Entry> index = state != null
+                ? (largestFirst ? byStatePlayers : byState).get(state)
+                : largestFirst ? byPlayers : byActivity;
+        if (cursor != null)
+            index = index.tailSet(decode(cursor, largestFirst), false);
+
+        List<AdminRoomDTO> rooms = new ArrayList<>(Math.min(limit, 64));
+        String nextCursor = null;
+        for (Entry entry : index) {
+            // The index is sorted on the driving filter, so the first miss ends the range
+            if (largestFirst ? entry.getPlayerCount() < minPlayers
+                    : minIdleMillis > 0 && entry.getLastActivity() > cutoff)
+                break;
+            // Only a player filter on an idle range is checked here; every other filter is the index itself
+            if (entry.getPlayerCount() < minPlayers)
+                continue;
+
+            rooms.add(new AdminRoomDTO(entry.getRoomCode(), entry.getGameState(), entry.getPlayerCount(),
+                    entry.getLastActivity(), now - entry.getLastActivity()));
+            if (rooms.size() == limit) {
+                nextCursor = (largestFirst ? entry.getPlayerCount() : entry.getLastActivity()) + ":"
+                        + entry.getRoomCode();
+                break;
+            }
+        }
+        return new AdminRoomPageDTO(rooms, nextCursor);
+    }
+
+    private void unlink(Entry entry) {
+        byActivity.remove(entry);
+        byPlayers.remove(entry);
+        byState.get(entry.getGameState()).remove(entry);
+        byStatePlayers.get(entry.getGameState()).remove(entry);
+        stateCounts.get(entry.getGameState()).decrementAndGet();
+    }
+
+    private Entry decode(String cursor, boolean largestFirst) {
+        int split = cursor.indexOf(':');
+        if (split < 0)
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        long key;
+        try {
+            key = Long.parseLong(cursor.substring(0, split));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        String roomCode = cursor.substring(split + 1);
+        return largestFirst ? new Entry(roomCode, null, 0, (int) key) : new Entry(roomCode, null, key, 0);
+    }
+
+    @Value
+    static class Entry {
+        String roomCode;
+        GameState gameState;
+        long lastActivity;
+        int playerCount;
+    }
+}
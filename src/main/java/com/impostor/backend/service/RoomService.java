@@ -1,52 +1,184 @@
 package com.impostor.backend.service;
 
+import com.impostor.backend.cluster.RoomStore;
+import com.impostor.backend.dto.AdminRoomPageDTO;
+import com.impostor.backend.model.GameState;
 import com.impostor.backend.model.Player;
+import com.impostor.backend.model.PresenceStatus;
 import com.impostor.backend.model.Room;
-import com.impostor.backend.model.WordPool;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 public class RoomService {
-    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+    private static final char[] CODE_CHARS = "0123456789ABCDEF".toCharArray();
 
-    public Room createRoom(String username, int maxRounds) {
-        String roomCode = UUID.randomUUID().toString().substring(0, 6).toUpperCase();
-        Room room = new Room(roomCode);
-        room.setMaxRounds(maxRounds > 0 ? maxRounds : 3);
+    private final RoomStore store;
+    private final RoomShard[] shards;
+    private final RoomIndex index = new RoomIndex(Clock.systemUTC());
 
-        // Add creator as first player
+    public RoomService(RoomStore store, @Value("${impostor.rooms.shards:0}") int shardCount) {
+        this.store = store;
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new RoomShard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new RoomShard(i);
+        }
+    }
+
+    public Room createRoom(String username, int maxRounds) {
         String sessionId = UUID.randomUUID().toString();
-        Player creator = new Player(sessionId, username, null);
-        room.getPlayers().add(creator);
+        Room room;
+        do {
+            room = new Room(newRoomCode());
+            room.setMaxRounds(maxRounds > 0 ? maxRounds : 3);
 
-        rooms.put(roomCode, room);
+            // Add creator as first player
+            Player creator = new Player(sessionId, username, null);
+            room.getPlayers().add(creator);
+            room.publishSnapshot();
+        } while (store.putIfAbsent(room) != null);
+        store.bindPlayer(sessionId, room.getRoomCode());
+        synchronized (room) {
+            touch(room);
+        }
         return room;
     }
 
+    /**
+     * Six hex digits, the same shape as the old UUID prefix codes, without a
+     * SecureRandom draw and string formatting per attempt. Collisions are
+     * retried by {@link #createRoom}.
+     */
+    static String newRoomCode() {
+        int bits = ThreadLocalRandom.current().nextInt(1 << 24);
+        char[] code = new char[6];
+        for (int i = code.length - 1; i >= 0; i--) {
+            code[i] = CODE_CHARS[bits & 0xF];
+            bits >>>= 4;
+        }
+        return new String(code);
+    }
+
     public Room getRoom(String roomCode) {
-        return rooms.get(roomCode);
+        return store.get(roomCode);
     }
 
     public Player joinRoom(String roomCode, String username, String sessionId) {
-        Room room = rooms.get(roomCode);
+        Room room = store.get(roomCode);
         if (room == null) {
             throw new IllegalArgumentException("Room not found");
         }
+        return shardFor(roomCode).call(() -> addPlayer(room, username, sessionId));
+    }
+
+    public String getRoomCodeOfPlayer(String playerId) {
+        return store.roomOfPlayer(playerId);
+    }
+
+    /**
+     * Drops the player's room binding once they are no longer in the room, and
+     * the room itself once nobody is left in it or everyone still seated has
+     * gone offline, e.g. after walking away from a finished game.
+     */
+    public void release(Room room, String playerId) {
+        synchronized (room) {
+            if (room.getPlayers().stream().noneMatch(p -> p.getId().equals(playerId))) {
+                store.unbindPlayer(playerId);
+            }
+            if (room.getPlayers().stream().allMatch(p -> p.getPresence() == PresenceStatus.OFFLINE)) {
+                drop(room);
+            }
+        }
+    }
 
-        // Check if player already exists
-        for (Player p : room.getPlayers()) {
-            if (p.getUsername().equalsIgnoreCase(username)) {
-                p.setId(sessionId); // Update session ID for reconnect
-                return p;
+    /**
+     * Drops the room and every player binding in it, whoever is still seated.
+     * Does nothing if the room is already gone, even if its code was reused.
+     */
+    public void removeRoom(Room room) {
+        synchronized (room) {
+            if (store.get(room.getRoomCode()) == room) {
+                drop(room);
             }
         }
+    }
 
-        Player player = new Player(sessionId, username, null);
-        room.getPlayers().add(player);
-        return player;
+    /**
+     * Records activity on the room in the admin indexes. Call with the room
+     * lock held, after each transition.
+     */
+    public void touch(Room room) {
+        // A stale reference to a removed room must not bring it back
+        if (store.get(room.getRoomCode()) == room) {
+            index.update(room);
+        }
+    }
+
+    /**
+     * @see RoomIndex#query
+     */
+    public AdminRoomPageDTO queryRooms(GameState state, long minIdleMillis, int minPlayers, int limit,
+            String cursor) {
+        return index.query(state, minIdleMillis, minPlayers, limit, cursor);
+    }
+
+    public Map<GameState, Integer> countRoomsByState() {
+        return index.countByState();
+    }
+
+    /**
+     * Runs {@code task} on the thread that owns {@code roomCode}. Tasks for the
+     * same room run one at a time, in submission order.
+     */
+    public void execute(String roomCode, Runnable task) {
+        shardFor(roomCode).execute(task);
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    private Player addPlayer(Room room, String username, String sessionId) {
+        synchronized (room) {
+            // Check if player already exists
+            for (Player p : room.getPlayers()) {
+                if (p.getUsername().equalsIgnoreCase(username)) {
+                    store.unbindPlayer(p.getId());
+                    p.setId(sessionId); // Update session ID for reconnect
+                    store.bindPlayer(sessionId, room.getRoomCode());
+                    return p;
+                }
+            }
+
+            Player player = new Player(sessionId, username, null);
+            room.getPlayers().add(player);
+            store.bindPlayer(sessionId, room.getRoomCode());
+            return player;
+        }
+    }
+
+    private void drop(Room room) {
+        room.getPlayers().forEach(p -> store.unbindPlayer(p.getId()));
+        store.remove(room.getRoomCode());
+        index.remove(room.getRoomCode());
+    }
+
+    private RoomShard shardFor(String roomCode) {
+        int h = roomCode.hashCode();
+        return shards[Math.floorMod(h ^ (h >>> 16), shards.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (RoomShard shard : shards) {
+            shard.shutdown();
+        }
     }
 }
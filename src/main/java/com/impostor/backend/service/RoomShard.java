@@ -0,0 +1,56 @@
+package com.impostor.backend.service;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * A partition of the rooms served by {@link RoomService}. Every change to one of
+ * its rooms runs on the shard's own thread, so on a node a room is only ever
+ * written from a single core.
+ */
+class RoomShard {
+
+    private final ExecutorService executor;
+    private volatile Thread thread;
+
+    RoomShard(int index) {
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "room-shard-" + index);
+            t.setDaemon(true);
+            thread = t;
+            return t;
+        });
+    }
+
+    void execute(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                System.err.println("ERROR in " + Thread.currentThread().getName() + ": ");
+                e.printStackTrace();
+            }
+        });
+    }
+
+    <T> T call(Supplier<T> task) {
+        if (Thread.currentThread() == thread) {
+            return task.get();
+        }
+        try {
+            return CompletableFuture.supplyAsync(task, executor).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for room shard", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,365 @@
+package com.impostor.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impostor.backend.dto.RoomStatusDTO;
+import com.impostor.backend.dto.RoomSummaryDTO;
+import com.impostor.backend.model.Room;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only Server-Sent Events feed of room updates for people who only watch.
+ * <p>
+ * Every frame is a {@link RoomSummaryDTO}, so spectators never see roles or
+ * player ids. Each update is serialized once into a ready-made SSE frame and
+ * the same bytes are queued for every watcher; sender threads write them out,
+ * so a slow client never holds up the dispatcher lane. A watcher that falls
+ * {@value #REPLAY_FRAMES} frames behind is closed and resumes on reconnect.
+ * <p>
+ * Writes block, so a client that stops reading can pin a sender. A write still
+ * running after {@code impostor.spectators.send-timeout-ms} ends its watcher,
+ * and the pool gets an extra thread until the write returns, so the other
+ * watchers keep being served.
+ * <p>
+ * A feed keeps its last few frames so a client reconnecting with
+ * {@code Last-Event-ID} only receives what it missed. The buffer outlives the
+ * last watcher by {@code impostor.spectators.replay-grace-ms}.
+ */
+@Service
+public class SpectatorService {
+
+    private static final int REPLAY_FRAMES = 32;
+
+    private final ObjectMapper objectMapper;
+    private final RoomService roomService;
+    private final ThreadPoolTaskScheduler gameScheduler;
+    private final long timeoutMillis;
+    private final Duration replayGrace;
+    private final long sendTimeoutNanos;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledFuture<?> stallCheck;
+    private final Map<String, RoomFeed> feeds = new ConcurrentHashMap<>();
+
+    public SpectatorService(ObjectMapper objectMapper, RoomService roomService, GameEventDispatcher dispatcher,
+            ThreadPoolTaskScheduler gameScheduler,
+            @Value("${impostor.spectators.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${impostor.spectators.replay-grace-ms:60000}") long replayGraceMillis,
+            @Value("${impostor.spectators.send-threads:4}") int sendThreads,
+            @Value("${impostor.spectators.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.roomService = roomService;
+        this.gameScheduler = gameScheduler;
+        this.timeoutMillis = timeoutMillis;
+        this.replayGrace = Duration.ofMillis(replayGraceMillis);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        AtomicInteger count = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(sendThreads, sendThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "spectator-sender-" + count.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.stallCheck = gameScheduler.scheduleAtFixedRate(this::expireStalledSends,
+                Duration.ofMillis(Math.max(1, sendTimeoutMillis / 2)));
+        dispatcher.addListener(this::onEvent);
+    }
+
+    /**
+     * @return the new stream, or {@code null} if the room does not exist
+     */
+    public SseEmitter watch(String roomCode, String lastEventId) {
+        return attach(roomCode, lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter attach(String roomCode, String lastEventId, SseEmitter emitter) {
+        Room room = roomService.getRoom(roomCode);
+        if (room == null)
+            return null;
+
+        while (true) {
+            RoomFeed feed = feeds.computeIfAbsent(roomCode, RoomFeed::new);
+            // Register under the feed lock so no frame falls between the replay and the live stream
+            synchronized (feed) {
+                if (feed.evicted)
+                    continue; // Lost the race with eviction, the next lookup creates a new feed
+                Watcher watcher = new Watcher(emitter);
+                emitter.onCompletion(() -> leave(feed, watcher));
+                emitter.onTimeout(() -> leave(feed, watcher));
+                emitter.onError(e -> leave(feed, watcher));
+
+                List<Set<DataWithMediaType>> missed = feed.since(parseEventId(lastEventId));
+                if (missed == null) {
+                    RoomSummaryDTO state = RoomSummaryDTO.of(room.getSnapshot());
+                    try {
+                        watcher.enqueue(frame(state.getVersion(), "snapshot", state));
+                    } catch (JsonProcessingException e) {
+                        emitter.completeWithError(e);
+                        return emitter;
+                    }
+                } else {
+                    missed.forEach(watcher::enqueue);
+                }
+                feed.watchers.add(watcher);
+                return emitter;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stallCheck.cancel(false);
+        senders.shutdownNow();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void onEvent(GameEvent event) {
+        if (!(event.getPayload() instanceof RoomStatusDTO))
+            return;
+        RoomStatusDTO status = (RoomStatusDTO) event.getPayload();
+        RoomFeed feed = feeds.get(status.getRoomCode());
+        if (feed == null)
+            return; // Nobody watching, skip serialization
+
+        Set<DataWithMediaType> frame;
+        try {
+            frame = frame(status.getVersion(), "room", RoomSummaryDTO.of(status));
+        } catch (JsonProcessingException e) {
+            System.err.println("ERROR serializing spectator frame: ");
+            e.printStackTrace();
+            return;
+        }
+        synchronized (feed) {
+            feed.remember(status.getVersion(), frame);
+            for (Watcher watcher : feed.watchers) {
+                watcher.enqueue(frame);
+            }
+        }
+    }
+
+    private void leave(RoomFeed feed, Watcher watcher) {
+        watcher.close();
+        synchronized (feed) {
+            if (feed.watchers.remove(watcher) && feed.watchers.isEmpty()) {
+                feed.idleSince = System.nanoTime();
+                try {
+                    gameScheduler.schedule(() -> evictIfIdle(feed),
+                            gameScheduler.getClock().instant().plus(replayGrace));
+                } catch (TaskRejectedException e) {
+                    // Shutting down, nobody will resume
+                    feed.evicted = true;
+                    feeds.remove(feed.roomCode, feed);
+                }
+            }
+        }
+    }
+
+    private void evictIfIdle(RoomFeed feed) {
+        synchronized (feed) {
+            // A watcher came and went since this was scheduled; its own timer evicts
+            if (!feed.watchers.isEmpty() || System.nanoTime() - feed.idleSince < replayGrace.toNanos())
+                return;
+            feed.evicted = true;
+            feeds.remove(feed.roomCode, feed);
+        }
+    }
+
+    private void expireStalledSends() {
+        long now = System.nanoTime();
+        for (RoomFeed feed : feeds.values()) {
+            for (Watcher watcher : feed.watchers) {
+                watcher.expireIfStalled(now);
+            }
+        }
+    }
+
+    /**
+     * Grows the sender pool while a stalled write holds one of its threads, and
+     * shrinks it back once the write returns.
+     */
+    private synchronized void resizeSenders(int delta) {
+        int size = senders.getCorePoolSize() + delta;
+        if (delta > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    private Set<DataWithMediaType> frame(long id, String name, Object payload) throws JsonProcessingException {
+        String text = "id:" + id + "\nevent:" + name + "\ndata:" + objectMapper.writeValueAsString(payload) + "\n\n";
+        return Set.of(new DataWithMediaType(text.getBytes(StandardCharsets.UTF_8), MediaType.TEXT_EVENT_STREAM));
+    }
+
+    private static long parseEventId(String lastEventId) {
+        if (lastEventId == null)
+            return -1;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Frames waiting for one client, written in order by at most one sender
+     * thread at a time.
+     */
+    private class Watcher {
+        private final SseEmitter emitter;
+        // Guarded by this
+        private final ArrayDeque<Set<DataWithMediaType>> queue = new ArrayDeque<>();
+        private boolean sending;
+        private boolean closed;
+        // When the write in progress started, 0 while none is
+        private long sendingSince;
+        private boolean stalled;
+
+        Watcher(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<DataWithMediaType> frame) {
+            synchronized (this) {
+                if (closed)
+                    return;
+                if (queue.size() < REPLAY_FRAMES) {
+                    queue.add(frame);
+                    if (!sending) {
+                        sending = true;
+                        senders.execute(this::drain);
+                    }
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            // Too far behind; the client reconnects and replays from its last event id
+            emitter.complete();
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                queue.clear();
+            }
+        }
+
+        /**
+         * Gives up on the watcher if its current write has run past the send
+         * timeout. The emitter is left to the blocked sender, which holds its lock.
+         */
+        void expireIfStalled(long now) {
+            synchronized (this) {
+                if (stalled || sendingSince == 0 || now - sendingSince < sendTimeoutNanos)
+                    return;
+                stalled = true;
+                closed = true;
+                queue.clear();
+            }
+            resizeSenders(1);
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> frame;
+                synchronized (this) {
+                    frame = queue.poll();
+                    if (frame == null) {
+                        sending = false;
+                        return;
+                    }
+                    sendingSince = System.nanoTime() | 1; // Never 0, which means idle
+                }
+                boolean expired;
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    emitter.completeWithError(e);
+                } finally {
+                    synchronized (this) {
+                        sendingSince = 0;
+                        expired = stalled;
+                    }
+                }
+                if (expired) {
+                    // Hand back the thread lent while this write was stuck
+                    resizeSenders(-1);
+                    emitter.complete();
+                    synchronized (this) {
+                        sending = false;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class RoomFeed {
+        private final String roomCode;
+        private final List<Watcher> watchers = new CopyOnWriteArrayList<>();
+        private final long[] ids = new long[REPLAY_FRAMES];
+        @SuppressWarnings("unchecked")
+        private final Set<DataWithMediaType>[] frames = new Set[REPLAY_FRAMES];
+        private int count;
+        private int next;
+        private long idleSince;
+        private boolean evicted;
+
+        RoomFeed(String roomCode) {
+            this.roomCode = roomCode;
+        }
+
+        void remember(long id, Set<DataWithMediaType> frame) {
+            ids[next] = id;
+            frames[next] = frame;
+            next = (next + 1) % REPLAY_FRAMES;
+            count = Math.min(count + 1, REPLAY_FRAMES);
+        }
+
+        /**
+         * Frames after {@code lastId}, oldest first, or {@code null} when they are
+         * not all buffered any more and the client needs a full snapshot.
+         */
+        List<Set<DataWithMediaType>> since(long lastId) {
+            if (lastId < 0)
+                return null;
+            int oldest = (next - count + REPLAY_FRAMES) % REPLAY_FRAMES;
+            if (count == 0 || ids[oldest] > lastId + 1)
+                return null;
+            List<Set<DataWithMediaType>> result = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int slot = (oldest + i) % REPLAY_FRAMES;
+                if (ids[slot] > lastId) {
+                    result.add(frames[slot]);
+                }
+            }
+            return result;
+        }
+    }
+}
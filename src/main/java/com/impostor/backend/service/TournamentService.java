@@ -0,0 +1,425 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.dto.CreateTournamentDTO;
+import com.impostor.backend.dto.TournamentCreatedDTO;
+import com.impostor.backend.dto.TournamentDTO;
+import com.impostor.backend.dto.TournamentSeatDTO;
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.model.PlayerSnapshot;
+import com.impostor.backend.model.PresenceStatus;
+import com.impostor.backend.model.Room;
+import com.impostor.backend.model.RoomSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Knockout tournaments played as ordinary rooms. Each bracket round seats the
+ * remaining players into parallel rooms, and when the last of them reports a
+ * {@link GameFinished} the best of every room are reshuffled into the next
+ * round. A round with a single room is the final.
+ * <p>
+ * A room that cannot start, or is still playing
+ * {@code impostor.tournament.round-timeout-ms} after its round started, is
+ * forfeited and ranked by {@link #rankForfeit}. Finished tournaments and their
+ * rooms are dropped after {@code impostor.tournament.retention-ms}.
+ * <p>
+ * Bracket bookkeeping runs on a single thread of its own, so seating a round
+ * of thousands of rooms never holds up the shared game scheduler, which only
+ * fires the timers. Players are joined and games started on each room's shard.
+ * <p>
+ * Results arrive as {@link GameFinished} events, which stay on the node whose
+ * room finished, so tournaments are only offered in
+ * {@code impostor.cluster.mode=local}.
+ */
+@Service
+public class TournamentService {
+
+    static final int MIN_ROOM_SIZE = 3;
+    static final int DEFAULT_ROOM_SIZE = 6;
+    static final int MAX_PLAYERS = 100_000;
+
+    private final RoomService roomService;
+    private final GameService gameService;
+    private final ThreadPoolTaskScheduler gameScheduler;
+    private final Duration startDelay;
+    private final Duration roundTimeout;
+    private final Duration retention;
+    private final boolean enabled;
+    private final ExecutorService bookkeeper;
+
+    private final Map<String, Tournament> tournaments = new ConcurrentHashMap<>();
+    private final Map<String, Match> matchesByRoom = new ConcurrentHashMap<>();
+
+    public TournamentService(RoomService roomService, GameService gameService, GameEventDispatcher dispatcher,
+            ThreadPoolTaskScheduler gameScheduler,
+            @Value("${impostor.tournament.start-delay-ms:30000}") long startDelayMillis,
+            @Value("${impostor.tournament.round-timeout-ms:900000}") long roundTimeoutMillis,
+            @Value("${impostor.tournament.retention-ms:3600000}") long retentionMillis,
+            @Value("${impostor.cluster.mode:local}") String clusterMode) {
+        this.roomService = roomService;
+        this.gameService = gameService;
+        this.gameScheduler = gameScheduler;
+        this.startDelay = Duration.ofMillis(startDelayMillis);
+        this.roundTimeout = Duration.ofMillis(roundTimeoutMillis);
+        this.retention = Duration.ofMillis(retentionMillis);
+        this.enabled = "local".equals(clusterMode);
+        this.bookkeeper = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "tournament-bookkeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.addListener(this::onEvent);
+    }
+
+    /**
+     * Registers the tournament and seats its first round in the background.
+     *
+     * @return the tournament and each entrant's private key for {@link #getSeat}
+     * @throws IllegalArgumentException if the players or settings cannot make a bracket
+     * @throws IllegalStateException if the node is part of a cluster
+     */
+    public TournamentCreatedDTO create(CreateTournamentDTO request) {
+        if (!enabled)
+            throw new IllegalStateException("Tournaments need impostor.cluster.mode=local");
+        List<String> usernames = request.getUsernames();
+        if (usernames == null || usernames.size() < MIN_ROOM_SIZE || usernames.size() > MAX_PLAYERS)
+            throw new IllegalArgumentException("A tournament needs " + MIN_ROOM_SIZE + " to " + MAX_PLAYERS
+                    + " players");
+        Set<String> distinct = new HashSet<>();
+        for (String username : usernames) {
+            // Rooms match usernames case-insensitively, so these would share a seat
+            if (username == null || username.isBlank() || !distinct.add(username.toLowerCase()))
+                throw new IllegalArgumentException("Usernames must be present and unique: " + username);
+        }
+        int roomSize = request.getRoomSize() > 0 ? request.getRoomSize() : DEFAULT_ROOM_SIZE;
+        if (roomSize < MIN_ROOM_SIZE)
+            throw new IllegalArgumentException("Rooms need at least " + MIN_ROOM_SIZE + " players");
+
+        Map<String, String> keys = new LinkedHashMap<>();
+        for (String username : usernames) {
+            keys.put(username, UUID.randomUUID().toString());
+        }
+        Tournament tournament = new Tournament(UUID.randomUUID().toString(), usernames.size(), roomSize,
+                Math.max(1, request.getAdvancePerRoom()), request.getMaxRounds(),
+                gameScheduler.getClock().millis(), Map.copyOf(keys));
+        tournaments.put(tournament.id, tournament);
+
+        List<String> players = new ArrayList<>(usernames);
+        bookkeeper.execute(() -> startRound(tournament, players));
+        return new TournamentCreatedDTO(toDTO(tournament), keys);
+    }
+
+    /**
+     * @return the tournament, or {@code null} if there is none with that id
+     */
+    public TournamentDTO get(String id) {
+        Tournament tournament = tournaments.get(id);
+        return tournament == null ? null : toDTO(tournament);
+    }
+
+    /**
+     * Where the player plays, or played last if eliminated. The player id acts
+     * for the player in that room, so it is only filled in for their own key.
+     *
+     * @param key the entrant's key from {@link #create}, or {@code null} for the public seat
+     * @return the seat, or {@code null} if the player is not seated in that tournament
+     * @throws IllegalArgumentException if {@code key} is not the entrant's key
+     */
+    public TournamentSeatDTO getSeat(String id, String username, String key) {
+        Tournament tournament = tournaments.get(id);
+        if (tournament == null)
+            return null;
+        String expected = tournament.keys.get(username);
+        if (key != null && (expected == null || !MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8))))
+            throw new IllegalArgumentException("Wrong entrant key for " + username);
+        synchronized (tournament) {
+            Seat seat = tournament.seats.get(username);
+            return seat == null ? null
+                    : new TournamentSeatDTO(username, seat.round, seat.roomCode, key != null ? seat.playerId : null,
+                            seat.eliminated);
+        }
+    }
+
+    /**
+     * Best first: the impostor if they won, otherwise the crew who voted them
+     * out, then the rest of the crew, then the impostor. Ties keep seat order,
+     * which is shuffled every round. Entrants the game does not mention, e.g.
+     * after leaving, rank last; anyone else who joined the room is ignored.
+     */
+    static List<String> rank(GameFinished game, List<String> entrants) {
+        List<String> ranked = new ArrayList<>(entrants.size());
+        if (game.isImpostorWon()) {
+            ranked.add(game.getImpostor());
+            ranked.addAll(game.getCrew());
+        } else {
+            Set<String> finders = new HashSet<>(game.getFinders());
+            game.getCrew().stream().filter(finders::contains).forEach(ranked::add);
+            game.getCrew().stream().filter(u -> !finders.contains(u)).forEach(ranked::add);
+            ranked.add(game.getImpostor());
+        }
+
+        Set<String> remaining = new LinkedHashSet<>(entrants);
+        List<String> result = new ArrayList<>(entrants.size());
+        for (String username : ranked) {
+            if (username != null && remaining.remove(username))
+                result.add(username);
+        }
+        result.addAll(remaining);
+        return result;
+    }
+
+    /**
+     * Ranking for a room without a result: entrants the room has not marked
+     * offline first, then the rest, each in seat order. A room that no longer
+     * exists keeps seat order.
+     */
+    static List<String> rankForfeit(RoomSnapshot room, List<String> entrants) {
+        Set<String> present = room == null ? Set.of() : room.getPlayers().stream()
+                .filter(p -> p.getPresence() != PresenceStatus.OFFLINE)
+                .map(PlayerSnapshot::getUsername)
+                .collect(Collectors.toSet());
+        List<String> result = new ArrayList<>(entrants.size());
+        entrants.stream().filter(present::contains).forEach(result::add);
+        entrants.stream().filter(u -> !present.contains(u)).forEach(result::add);
+        return result;
+    }
+
+    private void onEvent(GameEvent event) {
+        if (!(event.getPayload() instanceof GameFinished))
+            return;
+        GameFinished game = (GameFinished) event.getPayload();
+        // Removing it means a replay in the same room is not counted again
+        Match match = matchesByRoom.remove(game.getRoomCode());
+        if (match != null) {
+            // Off the dispatcher lane; a finished round seats the next one
+            bookkeeper.execute(() -> recordResult(match, rank(game, match.players)));
+        }
+    }
+
+    /**
+     * Ends the match without a result, unless it has already reported one.
+     */
+    private void forfeit(Match match) {
+        if (!matchesByRoom.remove(match.room.getRoomCode(), match))
+            return;
+        List<String> ranked = rankForfeit(match.room.getSnapshot(), match.players);
+        bookkeeper.execute(() -> recordResult(match, ranked));
+    }
+
+    private void recordResult(Match match, List<String> ranked) {
+        Tournament tournament = match.tournament;
+        List<String> next = null;
+        synchronized (tournament) {
+            if (tournament.rooms == 1) {
+                tournament.champion = ranked.get(0);
+                tournament.finishedAt = gameScheduler.getClock().millis();
+                tournament.remaining = 1;
+                tournament.roomsFinished = 1;
+                ranked.subList(1, ranked.size()).forEach(u -> tournament.seats.get(u).eliminated = true);
+                gameScheduler.schedule(() -> remove(tournament),
+                        gameScheduler.getClock().instant().plus(retention));
+                return;
+            }
+
+            tournament.advancing.addAll(ranked.subList(0, match.advance));
+            ranked.subList(match.advance, ranked.size()).forEach(u -> tournament.seats.get(u).eliminated = true);
+            tournament.roomsFinished++;
+            if (tournament.roomsFinished == tournament.rooms) {
+                next = new ArrayList<>(tournament.advancing);
+            }
+        }
+        if (next != null) {
+            startRound(tournament, next);
+        }
+    }
+
+    private void startRound(Tournament tournament, List<String> players) {
+        Collections.shuffle(players, ThreadLocalRandom.current());
+
+        // Spread evenly, and never so thin that a room cannot start
+        int roomCount = Math.max(1, Math.min((players.size() + tournament.roomSize - 1) / tournament.roomSize,
+                players.size() / MIN_ROOM_SIZE));
+        int smallest = players.size() / roomCount;
+        // Enough winners for the next round to start, but fewer than each room seats
+        int advance = Math.max(tournament.advancePerRoom, (MIN_ROOM_SIZE + roomCount - 1) / roomCount);
+        advance = Math.min(advance, smallest - 1);
+
+        int round;
+        synchronized (tournament) {
+            round = tournament.round + 1;
+        }
+        // Rooms are created outside the lock; results cannot be recorded before this returns,
+        // since they are queued behind it on the bookkeeper
+        List<Match> matches = new ArrayList<>(roomCount);
+        Map<String, Seat> seats = new HashMap<>();
+        int from = 0;
+        for (int i = 0; i < roomCount; i++) {
+            int size = smallest + (i < players.size() % roomCount ? 1 : 0);
+            List<String> seated = List.copyOf(players.subList(from, from + size));
+            from += size;
+            matches.add(seatRoom(tournament, round, seated, advance, seats));
+        }
+        synchronized (tournament) {
+            tournament.round = round;
+            tournament.rooms = roomCount;
+            tournament.roomsFinished = 0;
+            tournament.remaining = players.size();
+            tournament.advancing.clear();
+            tournament.seats.putAll(seats);
+            matches.forEach(match -> tournament.playedRooms.add(match.room));
+        }
+
+        // One timer per round for the start and one for the deadline, however many rooms it has
+        Instant start = gameScheduler.getClock().instant().plus(startDelay);
+        if (!startDelay.isZero()) {
+            gameScheduler.schedule(() -> matches.forEach(this::startGame), start);
+        }
+        gameScheduler.schedule(() -> matches.forEach(this::forfeit), start.plus(roundTimeout));
+    }
+
+    /**
+     * Creates the room with the first player as host and seats the others on
+     * the room's shard, starting the game there if there is no delay.
+     */
+    private Match seatRoom(Tournament tournament, int round, List<String> seated, int advance,
+            Map<String, Seat> seats) {
+        Room room = roomService.createRoom(seated.get(0), tournament.maxRounds);
+        String roomCode = room.getRoomCode();
+        seats.put(seated.get(0), new Seat(round, roomCode, room.getPlayers().get(0).getId()));
+
+        Map<String, String> guests = new LinkedHashMap<>();
+        for (String username : seated.subList(1, seated.size())) {
+            String playerId = UUID.randomUUID().toString();
+            guests.put(username, playerId);
+            seats.put(username, new Seat(round, roomCode, playerId));
+        }
+        Match match = new Match(tournament, room, seated, advance);
+        matchesByRoom.put(roomCode, match);
+
+        roomService.execute(roomCode, () -> {
+            guests.forEach((username, playerId) -> roomService.joinRoom(roomCode, username, playerId));
+            if (startDelay.isZero()) {
+                startOnShard(match);
+            } else {
+                gameService.broadcastRoomUpdate(room, "Tournament round " + round + " seated.");
+            }
+        });
+        return match;
+    }
+
+    private void startGame(Match match) {
+        roomService.execute(match.room.getRoomCode(), () -> startOnShard(match));
+    }
+
+    private void startOnShard(Match match) {
+        gameService.startGame(match.room.getRoomCode());
+        // Start is a no-op once the room is down to fewer than three players, and a room
+        // dropped because everyone went offline has nobody left to play
+        if (match.room.getSnapshot().getGameState() == GameState.LOBBY
+                || roomService.getRoom(match.room.getRoomCode()) != match.room) {
+            forfeit(match);
+        }
+    }
+
+    /**
+     * Forgets a finished tournament and drops its rooms, each on its own shard
+     * after anything still queued for it.
+     */
+    private void remove(Tournament tournament) {
+        tournaments.remove(tournament.id, tournament);
+        List<Room> rooms;
+        synchronized (tournament) {
+            rooms = new ArrayList<>(tournament.playedRooms);
+        }
+        rooms.forEach(room -> roomService.execute(room.getRoomCode(), () -> roomService.removeRoom(room)));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        bookkeeper.shutdown();
+        bookkeeper.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private TournamentDTO toDTO(Tournament tournament) {
+        synchronized (tournament) {
+            long end = tournament.champion != null ? tournament.finishedAt : gameScheduler.getClock().millis();
+            return new TournamentDTO(tournament.id, tournament.players, tournament.round, tournament.rooms,
+                    tournament.roomsFinished, tournament.remaining, tournament.champion != null,
+                    tournament.champion, end - tournament.startedAt);
+        }
+    }
+
+    private static class Tournament {
+        final String id;
+        final int players;
+        final int roomSize;
+        final int advancePerRoom;
+        final int maxRounds;
+        final long startedAt;
+        final Map<String, String> keys;
+
+        // Guarded by this
+        final Map<String, Seat> seats = new HashMap<>();
+        final List<Room> playedRooms = new ArrayList<>();
+        final List<String> advancing = new ArrayList<>();
+        int round;
+        int rooms;
+        int roomsFinished;
+        int remaining;
+        String champion;
+        long finishedAt;
+
+        Tournament(String id, int players, int roomSize, int advancePerRoom, int maxRounds, long startedAt,
+                Map<String, String> keys) {
+            this.id = id;
+            this.players = players;
+            this.roomSize = roomSize;
+            this.advancePerRoom = advancePerRoom;
+            this.maxRounds = maxRounds;
+            this.startedAt = startedAt;
+            this.keys = keys;
+        }
+    }
+
+    private static class Match {
+        final Tournament tournament;
+        final Room room;
+        final List<String> players;
+        final int advance;
+
+        Match(Tournament tournament, Room room, List<String> players, int advance) {
+            this.tournament = tournament;
+            this.room = room;
+            this.players = players;
+            this.advance = advance;
+        }
+    }
+
+    private static class Seat {
+        final int round;
+        final String roomCode;
+        final String playerId;
+        boolean eliminated;
+
+        Seat(int round, String roomCode, String playerId) {
+            this.round = round;
+            this.roomCode = roomCode;
+            this.playerId = playerId;
+        }
+    }
+}
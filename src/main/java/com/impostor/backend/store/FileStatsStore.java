@@ -0,0 +1,284 @@
+package com.impostor.backend.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impostor.backend.dto.PlayerStatsDTO;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of player stats, one JSON line per saved record. An
+ * in-memory index points at each player's latest line, and a bounded LRU
+ * cache sits in front of disk reads. A torn tail from a crash is cut off on
+ * open. Once most of the log is superseded records, it is rewritten with only
+ * the latest line per player, both on open and after a save.
+ */
+public class FileStatsStore implements StatsStore, Closeable {
+
+    static final String LOG_FILE = "stats.log";
+    private static final int COMPACT_MIN_RECORDS = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Path log;
+    // Guarded by this
+    private final Map<String, Long> index = new HashMap<>();
+    private FileChannel channel;
+    private long end;
+    private int records;
+    // Guarded by itself, always taken after this
+    private final Map<String, PlayerStatsDTO> cache;
+
+    public FileStatsStore(ObjectMapper objectMapper, Path dir, int cacheSize) throws IOException {
+        this.objectMapper = objectMapper;
+        this.log = dir.resolve(LOG_FILE);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PlayerStatsDTO> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        Files.createDirectories(dir);
+        open();
+        if (mostlySuperseded()) {
+            compact();
+        }
+    }
+
+    @Override
+    public PlayerStatsDTO load(String username) {
+        synchronized (cache) {
+            PlayerStatsDTO cached = cache.get(username);
+            if (cached != null)
+                return cached;
+        }
+        synchronized (this) {
+            Long offset = index.get(username);
+            if (offset == null)
+                return null;
+            try {
+                PlayerStatsDTO stats = parse(readLine(offset));
+                if (stats != null) {
+                    synchronized (cache) {
+                        cache.put(username, stats);
+                    }
+                }
+                return stats;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Reads the players the cache misses under one lock, in log order.
+     */
+    @Override
+    public Map<String, PlayerStatsDTO> loadAll(Collection<String> usernames) {
+        Map<String, PlayerStatsDTO> result = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        synchronized (cache) {
+            for (String username : usernames) {
+                PlayerStatsDTO cached = cache.get(username);
+                if (cached != null)
+                    result.put(username, cached);
+                else
+                    misses.add(username);
+            }
+        }
+        if (misses.isEmpty())
+            return result;
+
+        synchronized (this) {
+            TreeMap<Long, String> byOffset = new TreeMap<>();
+            for (String username : misses) {
+                Long offset = index.get(username);
+                if (offset != null)
+                    byOffset.put(offset, username);
+            }
+            try {
+                for (Map.Entry<Long, String> entry : byOffset.entrySet()) {
+                    PlayerStatsDTO stats = parse(readLine(entry.getKey()));
+                    if (stats != null)
+                        result.put(entry.getValue(), stats);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            synchronized (cache) {
+                for (String username : byOffset.values()) {
+                    PlayerStatsDTO stats = result.get(username);
+                    if (stats != null)
+                        cache.put(username, stats);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<PlayerStatsDTO> batch) {
+        if (batch.isEmpty())
+            return;
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Map<String, Long> offsets = new HashMap<>();
+            for (PlayerStatsDTO stats : batch) {
+                offsets.put(stats.getUsername(), end + out.size());
+                out.write(objectMapper.writeValueAsBytes(stats));
+                out.write('\n');
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+            long position = end;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+
+            end = position;
+            records += batch.size();
+            index.putAll(offsets);
+            synchronized (cache) {
+                for (PlayerStatsDTO stats : batch) {
+                    cache.put(stats.getUsername(), stats);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (mostlySuperseded()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // The batch is already saved; the next save tries again
+                System.err.println("ERROR: Stats log compaction failed: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void forEach(Consumer<PlayerStatsDTO> consumer) {
+        try {
+            scan((offset, stats) -> {
+                if (offset.equals(index.get(stats.getUsername()))) {
+                    consumer.accept(stats);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(log, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index.clear();
+        records = 0;
+        end = scan((offset, stats) -> {
+            index.put(stats.getUsername(), offset);
+            records++;
+        });
+        if (end < channel.size()) {
+            System.err.println("ERROR: Stats log has a torn tail, truncating " + (channel.size() - end) + " bytes");
+            channel.truncate(end);
+        }
+    }
+
+    private boolean mostlySuperseded() {
+        return records >= COMPACT_MIN_RECORDS && records > 2 * index.size();
+    }
+
+    private void compact() throws IOException {
+        List<PlayerStatsDTO> latest = new ArrayList<>(index.size());
+        forEach(latest::add);
+
+        Path tmp = log.resolveSibling(LOG_FILE + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+            for (PlayerStatsDTO stats : latest) {
+                out.write(objectMapper.writeValueAsBytes(stats));
+                out.write('\n');
+            }
+        }
+        channel.close();
+        try {
+            Files.move(tmp, log, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            // Reopens the old log if the move failed
+            open();
+        }
+    }
+
+    /**
+     * Reads the log front to back.
+     *
+     * @return offset just past the last complete line
+     */
+    private long scan(LineVisitor visitor) throws IOException {
+        long offset = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(log))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                PlayerStatsDTO stats = parse(line.toByteArray());
+                if (stats != null) {
+                    visitor.visit(offset, stats);
+                }
+                offset += line.size() + 1;
+                line.reset();
+            }
+        }
+        return offset;
+    }
+
+    private byte[] readLine(long offset) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        long position = offset;
+        while (position < end) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0)
+                break;
+            byte[] chunk = buffer.array();
+            for (int i = 0; i < read; i++) {
+                if (chunk[i] == '\n') {
+                    line.write(chunk, 0, i);
+                    return line.toByteArray();
+                }
+            }
+            line.write(chunk, 0, read);
+            position += read;
+        }
+        return line.toByteArray();
+    }
+
+    private PlayerStatsDTO parse(byte[] line) {
+        try {
+            return objectMapper.readValue(line, PlayerStatsDTO.class);
+        } catch (IOException e) {
+            System.err.println("ERROR: Skipping unreadable stats record: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private interface LineVisitor {
+        void visit(Long offset, PlayerStatsDTO stats);
+    }
+}
@@ -0,0 +1,30 @@
+package com.impostor.backend.store;
+
+import com.impostor.backend.dto.PlayerStatsDTO;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Keeps nothing; stats live only as long as the process.
+ */
+public class NoopStatsStore implements StatsStore {
+
+    @Override
+    public PlayerStatsDTO load(String username) {
+        return null;
+    }
+
+    @Override
+    public void saveAll(Collection<PlayerStatsDTO> batch) {
+    }
+
+    @Override
+    public void forEach(Consumer<PlayerStatsDTO> consumer) {
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return false;
+    }
+}
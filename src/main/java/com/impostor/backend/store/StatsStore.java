@@ -0,0 +1,53 @@
+package com.impostor.backend.store;
+
+import com.impostor.backend.dto.PlayerStatsDTO;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Durable storage for player stats. Calls may block on disk, so they are made
+ * from the stats writer thread or from request threads, never from game handlers.
+ */
+public interface StatsStore {
+
+    /**
+     * @return the last saved stats for the player, or {@code null} if none were saved
+     */
+    PlayerStatsDTO load(String username);
+
+    /**
+     * Loads several players at once, for stores that can do better than one
+     * read per player.
+     *
+     * @return saved stats by username; players with none are left out
+     */
+    default Map<String, PlayerStatsDTO> loadAll(Collection<String> usernames) {
+        Map<String, PlayerStatsDTO> result = new HashMap<>();
+        for (String username : usernames) {
+            PlayerStatsDTO stats = load(username);
+            if (stats != null)
+                result.put(username, stats);
+        }
+        return result;
+    }
+
+    /**
+     * Persists a batch in one write. Later entries for a player replace earlier ones.
+     */
+    void saveAll(Collection<PlayerStatsDTO> batch);
+
+    /**
+     * Visits the latest saved stats of every player.
+     */
+    void forEach(Consumer<PlayerStatsDTO> consumer);
+
+    /**
+     * @return whether saved stats can be loaded back, so callers may drop them from memory
+     */
+    default boolean isPersistent() {
+        return true;
+    }
+}
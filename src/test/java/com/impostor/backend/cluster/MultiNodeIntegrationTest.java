@@ -0,0 +1,156 @@
+package com.impostor.backend.cluster;
+
+import com.impostor.backend.ImpostorBackendApplication;
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.model.Room;
+import com.impostor.backend.service.GameService;
+import com.impostor.backend.service.PlayerStatsService;
+import com.impostor.backend.service.RoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two application contexts in one JVM joined to the same loopback cluster,
+ * so unlike the other integration tests this one starts its own nodes.
+ */
+class MultiNodeIntegrationTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private final RestTemplate rest = new RestTemplate();
+
+    @BeforeEach
+    void setUp() {
+        String cluster = UUID.randomUUID().toString();
+        nodeA = startNode(cluster, "a");
+        nodeB = startNode(cluster, "b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRoomIsSharedAndEventsFanOutAcrossNodes() throws Exception {
+        Map<String, Object> created = rest.postForObject(url(nodeA, "/api/game/create"),
+                Map.of("username", "Host", "maxRounds", 3), Map.class);
+        String roomCode = (String) ((Map<String, Object>) created.get("room")).get("roomCode");
+
+        // Join through the other node
+        Map<String, Object> joined = rest.postForObject(url(nodeB, "/api/game/join/" + roomCode),
+                Map.of("username", "Guest"), Map.class);
+        assertNotNull(joined);
+        assertEquals(2, nodeA.getBean(RoomService.class).getRoom(roomCode).getPlayers().size());
+
+        // A client on node A should see joins handled by node B
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port(nodeA) + "/ws-native", new StompSessionHandlerAdapter() {
+                })
+                .get(5, TimeUnit.SECONDS);
+
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        session.subscribe("/topic/room/" + roomCode, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<String, Object>) payload);
+            }
+        });
+
+        Map<String, Object> update = null;
+        for (int i = 0; i < 10 && update == null; i++) {
+            rest.postForObject(url(nodeB, "/api/game/join/" + roomCode), Map.of("username", "Late" + i), Map.class);
+            update = received.poll(1, TimeUnit.SECONDS);
+        }
+
+        assertNotNull(update, "no room update forwarded from node B");
+        assertEquals(roomCode, update.get("roomCode"));
+        assertTrue(((String) update.get("message")).startsWith("Late"));
+        assertTrue(((List<?>) update.get("players")).size() >= 3);
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFinishedGameIsCountedOnceAcrossNodes() throws Exception {
+        Map<String, Object> created = rest.postForObject(url(nodeA, "/api/game/create"),
+                Map.of("username", "Host", "maxRounds", 3), Map.class);
+        String roomCode = (String) ((Map<String, Object>) created.get("room")).get("roomCode");
+        rest.postForObject(url(nodeA, "/api/game/join/" + roomCode), Map.of("username", "Guest1"), Map.class);
+        rest.postForObject(url(nodeA, "/api/game/join/" + roomCode), Map.of("username", "Guest2"), Map.class);
+
+        // Play the game on node A; node B only sees its events over the bus
+        GameService game = nodeA.getBean(GameService.class);
+        Room room = nodeA.getBean(RoomService.class).getRoom(roomCode);
+        game.startGame(roomCode);
+        room.getPlayers().forEach(p -> game.submitCategory(roomCode, p.getId(), "Animals"));
+        room.getPlayers().forEach(p -> game.submitWord(roomCode, p.getId(), "Elephant"));
+        while (room.getGameState() == GameState.CLUE_INPUT) {
+            game.submitClue(roomCode, room.getCurrentSpeakerId(), "hint");
+        }
+        String impostorId = room.getImpostorId();
+        room.getPlayers().forEach(p -> game.vote(roomCode, p.getId(), impostorId));
+        assertEquals(GameState.FINISHED, room.getGameState());
+
+        PlayerStatsService statsA = nodeA.getBean(PlayerStatsService.class);
+        PlayerStatsService statsB = nodeB.getBean(PlayerStatsService.class);
+        for (int i = 0; i < 50 && statsA.getStats("Host") == null; i++) {
+            Thread.sleep(100);
+        }
+        // Give any copy forwarded to node B time to arrive
+        Thread.sleep(500);
+        for (String username : List.of("Host", "Guest1", "Guest2")) {
+            assertEquals(1, statsA.getStats(username).getGamesPlayed(), username);
+            assertNull(statsB.getStats(username), username);
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String cluster, String nodeId) {
+        return new SpringApplicationBuilder(ImpostorBackendApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--impostor.cluster.mode=loopback",
+                        "--impostor.cluster.name=" + cluster,
+                        "--impostor.cluster.node-id=" + nodeId);
+    }
+
+    private int port(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    private String url(ConfigurableApplicationContext context, String path) {
+        return "http://localhost:" + port(context) + path;
+    }
+}
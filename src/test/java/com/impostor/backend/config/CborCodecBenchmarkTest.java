@@ -0,0 +1,95 @@
+package com.impostor.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.impostor.backend.dto.PrivatePlayerStateDTO;
+import com.impostor.backend.dto.RoomStatusDTO;
+import com.impostor.backend.model.Player;
+import com.impostor.backend.model.Role;
+import com.impostor.backend.model.Room;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Frame size and encode/decode cost of the outbound DTOs as JSON and as CBOR,
+ * written directly, through {@link BinaryCodec#encode} as CBOR sessions get
+ * them, and transcoded from JSON as its fallback does. A CBOR session's frame
+ * costs its encode on top of the JSON the broker always produces.
+ * Run with {@code mvn test -Dtest=CborCodecBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CborCodecBenchmarkTest {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final CBORMapper cbor = new CBORMapper();
+    private final BinaryCodec codec = new BinaryCodec(true, json);
+
+    @Test
+    void benchmarkPayloads() throws Exception {
+        measure("RoomStatusDTO", roomStatus(8), roomStatus(8));
+        measure("PrivatePlayerStateDTO",
+                new PrivatePlayerStateDTO("PLAYER", "Animals", "Elephant", "You are a regular player."),
+                new PrivatePlayerStateDTO("PLAYER", "Animals", "Elephant", "You are a regular player."));
+    }
+
+    // Clients read frames into plain objects, so decoding targets a Map
+    private void measure(String name, Object payload, Object copy) throws Exception {
+        byte[] jsonBytes = json.writeValueAsBytes(payload);
+        byte[] cborBytes = cbor.writeValueAsBytes(payload);
+        // Two distinct instances so the codec's last-result cache never hits
+        byte[][] sources = { jsonBytes, jsonBytes.clone() };
+        Object[] payloads = { payload, copy };
+
+        for (int i = 0; i < WARMUP; i++) {
+            json.writeValueAsBytes(payload);
+            cbor.writeValueAsBytes(payload);
+            codec.encode(payloads[i & 1]);
+            codec.toCbor(sources[i & 1]);
+            json.readValue(jsonBytes, Map.class);
+            cbor.readValue(cborBytes, Map.class);
+        }
+
+        long jsonEncode = time(() -> json.writeValueAsBytes(payload));
+        long cborEncode = time(() -> cbor.writeValueAsBytes(payload));
+        int[] next = { 0 };
+        long codecEncode = time(() -> codec.encode(payloads[next[0]++ & 1]));
+        long transcode = time(() -> codec.toCbor(sources[next[0]++ & 1]));
+        long jsonDecode = time(() -> json.readValue(jsonBytes, Map.class));
+        long cborDecode = time(() -> cbor.readValue(cborBytes, Map.class));
+
+        System.out.printf("%s size: json=%dB cbor=%dB (-%.0f%%)%n", name, jsonBytes.length, cborBytes.length,
+                100.0 * (jsonBytes.length - cborBytes.length) / jsonBytes.length);
+        System.out.printf("%s encode: json=%dns cbor=%dns codec=%dns transcode=%dns decode: json=%dns cbor=%dns%n",
+                name, jsonEncode, cborEncode, codecEncode, transcode, jsonDecode, cborDecode);
+        assertTrue(cborBytes.length < jsonBytes.length);
+    }
+
+    private long time(Step step) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            step.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private RoomStatusDTO roomStatus(int players) {
+        Room room = new Room("ABC123");
+        for (int i = 0; i < players; i++) {
+            room.getPlayers().add(new Player(UUID.randomUUID().toString(), "Player" + i, Role.PLAYER));
+        }
+        room.setFirstSpeakerId(room.getPlayers().get(0).getId());
+        return RoomStatusDTO.of(room.publishSnapshot(), "Player3 submitted a category");
+    }
+
+    private interface Step {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,148 @@
+package com.impostor.backend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.impostor.backend.ImpostorBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A native WebSocket client that negotiates CBOR on CONNECT and speaks raw
+ * STOMP frames, since the STOMP client would send CBOR bodies as text.
+ */
+@SpringBootTest(classes = ImpostorBackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CborCodecIntegrationTest {
+
+    private final RestTemplate rest = new RestTemplate();
+    private final CBORMapper cbor = new CBORMapper();
+    private final BlockingQueue<WebSocketMessage<?>> received = new LinkedBlockingQueue<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCborClientSendsAndReceivesBinaryFrames() throws Exception {
+        String base = "http://localhost:" + port;
+        Map<String, Object> created = rest.postForObject(base + "/api/game/create",
+                Map.of("username", "Host", "maxRounds", 3), Map.class);
+        String roomCode = (String) ((Map<String, Object>) created.get("room")).get("roomCode");
+        List<String> playerIds = new ArrayList<>();
+        playerIds.add((String) ((Map<String, Object>) created.get("player")).get("id"));
+        for (String name : List.of("Guest1", "Guest2")) {
+            Map<String, Object> joined = rest.postForObject(base + "/api/game/join/" + roomCode,
+                    Map.of("username", name), Map.class);
+            playerIds.add((String) ((Map<String, Object>) joined.get("player")).get("id"));
+        }
+
+        WebSocketSession session = new StandardWebSocketClient().execute(new AbstractWebSocketHandler() {
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) {
+                received.add(message);
+            }
+        }, base.replace("http", "ws") + "/ws-native").get(5, TimeUnit.SECONDS);
+
+        send(session, "CONNECT", Map.of("accept-version", "1.2", "host", "localhost",
+                "content-type", "application/cbor"), null);
+        assertEquals("CONNECTED", next().command);
+        send(session, "SUBSCRIBE", Map.of("id", "0", "destination", "/topic/room/" + roomCode), null);
+        // The simple broker does not send receipts, so give the subscription a moment
+        Thread.sleep(500);
+
+        send(session, "SEND", Map.of("destination", "/app/room/" + roomCode + "/start"), null);
+        Map<String, Object> started = roomUpdate();
+        assertEquals("CATEGORY_INPUT", started.get("gameState"));
+        assertEquals(3, ((List<?>) started.get("players")).size());
+
+        for (String playerId : playerIds) {
+            byte[] body = cbor.writeValueAsBytes(Map.of("playerId", playerId, "value", "Animals"));
+            send(session, "SEND", Map.of("destination", "/app/room/" + roomCode + "/category",
+                    "content-type", "application/cbor"), body);
+        }
+        Map<String, Object> update = roomUpdate();
+        while (!"WORD_INPUT".equals(update.get("gameState"))) {
+            update = roomUpdate();
+        }
+        assertTrue(((String) update.get("message")).contains("Animals"));
+
+        session.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> roomUpdate() throws Exception {
+        Frame frame = next();
+        assertEquals("MESSAGE", frame.command);
+        assertTrue(frame.headers.get("content-type").startsWith("application/cbor"));
+        return cbor.readValue(frame.body, Map.class);
+    }
+
+    private Frame next() throws Exception {
+        while (true) {
+            WebSocketMessage<?> message = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(message, "no frame received");
+            assertInstanceOf(BinaryMessage.class, message, "CBOR session got a text frame");
+            ByteBuffer payload = ((BinaryMessage) message).getPayload();
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            if (bytes.length > 0 && bytes[0] != '\n')
+                return Frame.parse(bytes);
+        }
+    }
+
+    private void send(WebSocketSession session, String command, Map<String, String> headers, byte[] body)
+            throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StringBuilder head = new StringBuilder(command).append('\n');
+        headers.forEach((name, value) -> head.append(name).append(':').append(value).append('\n'));
+        if (body != null)
+            head.append("content-length:").append(body.length).append('\n');
+        head.append('\n');
+        out.write(head.toString().getBytes(StandardCharsets.UTF_8));
+        if (body != null)
+            out.write(body);
+        out.write(0);
+        session.sendMessage(new BinaryMessage(out.toByteArray()));
+    }
+
+    private static class Frame {
+        String command;
+        Map<String, String> headers = new HashMap<>();
+        byte[] body;
+
+        static Frame parse(byte[] bytes) {
+            int headerEnd = 0;
+            while (!(bytes[headerEnd] == '\n' && bytes[headerEnd + 1] == '\n'))
+                headerEnd++;
+            String[] lines = new String(bytes, 0, headerEnd, StandardCharsets.UTF_8).split("\n");
+            Frame frame = new Frame();
+            frame.command = lines[0];
+            for (int i = 1; i < lines.length; i++) {
+                int split = lines[i].indexOf(':');
+                frame.headers.put(lines[i].substring(0, split), lines[i].substring(split + 1));
+            }
+            int start = headerEnd + 2;
+            String length = frame.headers.get("content-length");
+            int end = length != null ? start + Integer.parseInt(length) : bytes.length - 1;
+            frame.body = Arrays.copyOfRange(bytes, start, end);
+            return frame;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.impostor.backend.config;
+
+import com.impostor.backend.ImpostorBackendApplication;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Raw upgrade requests against /ws-native, asserting the
+ * {@code Sec-WebSocket-Extensions} header the container actually sends.
+ */
+@SpringBootTest(classes = ImpostorBackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class DeflateHandshakeTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void testBrowserOfferIsAcceptedWithoutBareParameters() throws Exception {
+        // Chrome and Firefox both send this
+        assertEquals("permessage-deflate", handshake("permessage-deflate; client_max_window_bits"));
+        assertEquals("permessage-deflate", handshake("permessage-deflate"));
+    }
+
+    @Test
+    void testOfferedParametersAreKept() throws Exception {
+        assertEquals("permessage-deflate;server_no_context_takeover;client_max_window_bits=15",
+                handshake("permessage-deflate; client_max_window_bits=15; server_no_context_takeover"));
+        assertEquals("permessage-deflate;client_max_window_bits=10",
+                handshake("permessage-deflate; client_max_window_bits=10"));
+        assertEquals("permessage-deflate;server_max_window_bits=15;client_no_context_takeover",
+                handshake("permessage-deflate; client_no_context_takeover; server_max_window_bits=15"));
+    }
+
+    @Test
+    void testFallbackOfferIsUsedWhenFirstCannotBeHonoured() throws Exception {
+        assertEquals("permessage-deflate",
+                handshake("permessage-deflate; server_max_window_bits=10, permessage-deflate"));
+        assertNull(handshake("permessage-deflate; server_max_window_bits=10"));
+        assertNull(handshake("x-webkit-deflate-frame"));
+    }
+
+    @Nested
+    @TestPropertySource(properties = "impostor.websocket.compression.context-takeover=false")
+    class WithoutContextTakeover {
+
+        @LocalServerPort
+        private int port;
+
+        @Test
+        void testContextTakeoverCanBeDisabled() throws Exception {
+            assertEquals("permessage-deflate;server_no_context_takeover",
+                    handshake(port, "permessage-deflate; client_max_window_bits"));
+        }
+    }
+
+    private String handshake(String offer) throws Exception {
+        return handshake(port, offer);
+    }
+
+    /**
+     * @return the negotiated extensions, or {@code null} if none were accepted
+     */
+    private static String handshake(int port, String offer) throws Exception {
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET /ws-native HTTP/1.1\r\n"
+                    + "Host: localhost:" + port + "\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n"
+                    + "Sec-WebSocket-Version: 13\r\n"
+                    + "Sec-WebSocket-Extensions: " + offer + "\r\n"
+                    + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.US_ASCII));
+            String status = in.readLine();
+            if (!status.contains(" 101 "))
+                throw new AssertionError("Upgrade failed: " + status);
+            String extensions = null;
+            for (String line = in.readLine(); line != null && !line.isEmpty(); line = in.readLine()) {
+                int colon = line.indexOf(':');
+                if (line.substring(0, colon).equalsIgnoreCase("Sec-WebSocket-Extensions"))
+                    extensions = line.substring(colon + 1).trim();
+            }
+            return extensions;
+        }
+    }
+}
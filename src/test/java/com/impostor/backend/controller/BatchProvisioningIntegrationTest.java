@@ -0,0 +1,83 @@
+package com.impostor.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impostor.backend.ImpostorBackendApplication;
+import com.impostor.backend.service.RoomService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = ImpostorBackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BatchProvisioningIntegrationTest {
+
+    private static final int ROOMS = 2000;
+
+    private final RestTemplate rest = new RestTemplate();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBatchStreamsOneRoomPerLine() throws Exception {
+        List<Map<String, Object>> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            rooms.add(Map.of("username", "Host" + i, "maxRounds", 1 + i % 5));
+        }
+
+        long start = System.nanoTime();
+        String body = rest.postForObject(url("/api/game/create/batch"), Map.of("rooms", rooms), String.class);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Created " + ROOMS + " rooms over HTTP in " + millis + " ms");
+
+        String[] lines = body.split("\n");
+        assertEquals(ROOMS, lines.length);
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < ROOMS; i++) {
+            Map<String, Object> line = objectMapper.readValue(lines[i], Map.class);
+            Map<String, Object> room = (Map<String, Object>) line.get("room");
+            Map<String, Object> host = (Map<String, Object>) line.get("player");
+            String code = (String) room.get("roomCode");
+            assertTrue(code.matches("[0-9A-F]{6}"));
+            assertTrue(codes.add(code));
+
+            List<Map<String, Object>> players = (List<Map<String, Object>>) room.get("players");
+            assertEquals("Host" + i, players.get(0).get("username"));
+            assertFalse(players.get(0).containsKey("id"));
+            assertEquals("Host" + i, host.get("username"));
+            assertEquals(code, roomService.getRoomCodeOfPlayer((String) host.get("id")));
+            assertEquals(1 + i % 5, roomService.getRoom(code).getMaxRounds());
+        }
+    }
+
+    @Test
+    void testBatchWithoutHostIsRejected() {
+        List<Map<String, Object>> rooms = List.of(Map.of("username", "Host"), Map.of("maxRounds", 3));
+        int before = openRooms();
+        HttpClientErrorException error = assertThrows(HttpClientErrorException.class,
+                () -> rest.postForObject(url("/api/game/create/batch"), Map.of("rooms", rooms), String.class));
+        assertEquals(400, error.getStatusCode().value());
+        assertEquals(before, openRooms());
+    }
+
+    private int openRooms() {
+        return roomService.countRoomsByState().values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
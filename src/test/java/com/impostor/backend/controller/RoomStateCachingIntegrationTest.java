@@ -0,0 +1,79 @@
+package com.impostor.backend.controller;
+
+import com.impostor.backend.ImpostorBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = ImpostorBackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class RoomStateCachingIntegrationTest {
+
+    private final RestTemplate rest = new RestTemplate();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRoomStateIsRevalidatedWithETag() {
+        Map<String, Object> created = rest.postForObject(url("/api/game/create"),
+                Map.of("username", "Host", "maxRounds", 3), Map.class);
+        String roomCode = (String) ((Map<String, Object>) created.get("room")).get("roomCode");
+
+        ResponseEntity<Map> first = get(roomCode, null);
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+
+        ResponseEntity<Map> unchanged = get(roomCode, etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+        assertNull(unchanged.getBody());
+
+        rest.postForObject(url("/api/game/join/" + roomCode), Map.of("username", "Guest"), Map.class);
+        ResponseEntity<Map> changed = get(roomCode, etag);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(etag, changed.getHeaders().getETag());
+        assertEquals(2, ((List<?>) changed.getBody().get("players")).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRoomStateDoesNotExposePlayerIds() {
+        Map<String, Object> created = rest.postForObject(url("/api/game/create"),
+                Map.of("username", "Host", "maxRounds", 3), Map.class);
+        String hostId = (String) ((Map<String, Object>) created.get("player")).get("id");
+        String roomCode = (String) ((Map<String, Object>) created.get("room")).get("roomCode");
+        assertNotNull(hostId);
+
+        Map<String, Object> room = get(roomCode, null).getBody();
+        List<Map<String, Object>> players = (List<Map<String, Object>>) room.get("players");
+        assertEquals("Host", players.get(0).get("username"));
+        assertFalse(players.get(0).containsKey("id"));
+        assertFalse(room.toString().contains(hostId));
+    }
+
+    private ResponseEntity<Map> get(String roomCode, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return rest.exchange(url("/api/game/room/" + roomCode), HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
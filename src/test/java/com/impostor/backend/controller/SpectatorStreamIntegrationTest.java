@@ -0,0 +1,157 @@
+package com.impostor.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impostor.backend.ImpostorBackendApplication;
+import com.impostor.backend.model.Room;
+import com.impostor.backend.service.GameService;
+import com.impostor.backend.service.RoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = ImpostorBackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class SpectatorStreamIntegrationTest {
+
+    private final RestTemplate rest = new RestTemplate();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private GameService gameService;
+
+    private String roomCode;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> created = rest.postForObject(url("/api/game/create"),
+                Map.of("username", "Host", "maxRounds", 3), Map.class);
+        roomCode = (String) ((Map<String, Object>) created.get("room")).get("roomCode");
+    }
+
+    @Test
+    void testSnapshotAndLiveFramesShareThePublicShape() throws Exception {
+        try (Stream stream = new Stream(null)) {
+            Event snapshot = stream.next();
+            assertEquals("snapshot", snapshot.name);
+            Map<String, Object> state = objectMapper.readValue(snapshot.data, Map.class);
+            assertEquals(roomCode, state.get("roomCode"));
+            assertEquals(snapshot.id, String.valueOf(state.get("version")));
+
+            join("Guest1");
+            join("Guest2");
+            stream.next();
+            stream.next();
+
+            Room room = roomService.getRoom(roomCode);
+            gameService.startGame(roomCode);
+            Event started = stream.next();
+            assertEquals("room", started.name);
+            Map<String, Object> live = objectMapper.readValue(started.data, Map.class);
+            assertEquals(state.keySet(), live.keySet());
+            assertEquals(3, ((java.util.List<?>) live.get("players")).size());
+
+            // Roles are assigned now; neither they nor the ids that act for a player may leak
+            assertFalse(started.data.contains("role"));
+            assertFalse(started.data.contains("IMPOSTOR"));
+            room.getPlayers().forEach(p -> assertFalse(started.data.contains(p.getId())));
+        }
+    }
+
+    @Test
+    void testReconnectReplaysOnlyMissedFrames() throws Exception {
+        String seen;
+        try (Stream stream = new Stream(null)) {
+            stream.next();
+            join("Guest1");
+            seen = stream.next().id;
+            join("Guest2");
+            stream.next();
+        }
+
+        try (Stream resumed = new Stream(seen)) {
+            Event missed = resumed.next();
+            assertEquals("room", missed.name);
+            assertEquals(Long.parseLong(seen) + 1, Long.parseLong(missed.id));
+            assertTrue(missed.data.contains("Guest2"));
+        }
+    }
+
+    @Test
+    void testUnknownEventIdGetsSnapshot() throws Exception {
+        try (Stream stream = new Stream("not-a-version")) {
+            assertEquals("snapshot", stream.next().name);
+        }
+    }
+
+    private void join(String username) {
+        rest.postForObject(url("/api/game/join/" + roomCode), Map.of("username", username), Map.class);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+    private static class Event {
+        String id;
+        String name;
+        String data;
+    }
+
+    private class Stream implements AutoCloseable {
+        private final HttpURLConnection connection;
+        private final BufferedReader reader;
+
+        Stream(String lastEventId) throws Exception {
+            connection = (HttpURLConnection) new URL(url("/api/game/room/" + roomCode + "/stream")).openConnection();
+            connection.setRequestProperty("Accept", "text/event-stream");
+            if (lastEventId != null) {
+                connection.setRequestProperty("Last-Event-ID", lastEventId);
+            }
+            connection.setReadTimeout(5000);
+            assertEquals(200, connection.getResponseCode());
+            reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        Event next() throws Exception {
+            Event event = new Event();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isEmpty()) {
+                    if (event.name != null)
+                        return event;
+                } else if (line.startsWith("id:")) {
+                    event.id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    event.name = line.substring(6);
+                } else if (line.startsWith("data:")) {
+                    event.data = line.substring(5);
+                }
+            }
+            throw new AssertionError("Stream closed");
+        }
+
+        @Override
+        public void close() {
+            connection.disconnect();
+        }
+    }
+}
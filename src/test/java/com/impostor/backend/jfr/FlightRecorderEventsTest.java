@@ -0,0 +1,75 @@
+package com.impostor.backend.jfr;
+
+import com.impostor.backend.cluster.InMemoryRoomStore;
+import com.impostor.backend.cluster.LocalRoomEventBus;
+import com.impostor.backend.model.Room;
+import com.impostor.backend.service.GameEventDispatcher;
+import com.impostor.backend.service.GameService;
+import com.impostor.backend.service.RoomService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testPhasesAndBroadcastsAreRecorded() throws Exception {
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> true);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+        GameEventDispatcher dispatcher = new GameEventDispatcher(template, new LocalRoomEventBus());
+        RoomService roomService = new RoomService(new InMemoryRoomStore(), 1);
+        GameService gameService = new GameService(roomService, dispatcher);
+
+        Room room = roomService.createRoom("Host", 3);
+        roomService.joinRoom(room.getRoomCode(), "Guest1", "g1");
+        roomService.joinRoom(room.getRoomCode(), "Guest2", "g2");
+        CountDownLatch delivered = new CountDownLatch(4);
+        dispatcher.addListener(event -> delivered.countDown());
+
+        Path file = dir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(GamePhaseEvent.class);
+            recording.enable(RoomBroadcastEvent.class);
+            recording.start();
+            gameService.startGame(room.getRoomCode());
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            recording.stop();
+            recording.dump(file);
+        } finally {
+            dispatcher.shutdown();
+            roomService.shutdown();
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent phase = events.stream()
+                .filter(e -> e.getEventType().getName().equals("impostor.GamePhase"))
+                .findFirst().orElseThrow();
+        assertEquals("START", phase.getString("operation"));
+        assertEquals(room.getRoomCode(), phase.getString("roomCode"));
+        assertEquals("LOBBY", phase.getString("fromState"));
+        assertEquals("CATEGORY_INPUT", phase.getString("toState"));
+        assertEquals(3, phase.getInt("playerCount"));
+
+        RecordedEvent broadcast = events.stream()
+                .filter(e -> e.getEventType().getName().equals("impostor.RoomBroadcast"))
+                .filter(e -> !e.getBoolean("toUser"))
+                .findFirst().orElseThrow();
+        assertEquals("/topic/room/" + room.getRoomCode(), broadcast.getString("destination"));
+        assertEquals(3, broadcast.getInt("playerCount"));
+        assertTrue(broadcast.getLong("payloadSize") > 0);
+    }
+}
@@ -0,0 +1,125 @@
+package com.impostor.backend.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Retained heap per room mid-game, seat-indexed {@link Room} against the
+ * previous map-based layout. Players, ids and input strings are shared by
+ * both, so the difference is the storage structure itself.
+ * Run with {@code mvn test -Dtest=RoomFootprintBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RoomFootprintBenchmarkTest {
+
+    private static final int ROOMS = 20_000;
+    private static final long HEAP_BUDGET = 256L * 1024 * 1024;
+
+    @Test
+    void benchmarkRoomFootprint() throws Exception {
+        for (int players : new int[] { 3, 6, 10 }) {
+            List<List<Player>> seats = seatedPlayers(players);
+            long legacy = bytesPerRoom(i -> legacyRoom(seats.get(i)));
+            long compact = bytesPerRoom(i -> compactRoom(seats.get(i)));
+            System.out.printf("players=%d legacy=%dB compact=%dB rooms/256MB: legacy=%d compact=%d (+%.0f%%)%n",
+                    players, legacy, compact, HEAP_BUDGET / legacy, HEAP_BUDGET / compact,
+                    100.0 * (legacy - compact) / compact);
+            assertTrue(compact < legacy);
+        }
+    }
+
+    private List<List<Player>> seatedPlayers(int count) {
+        List<List<Player>> rooms = new ArrayList<>(ROOMS);
+        for (int i = 0; i < ROOMS; i++) {
+            List<Player> players = new ArrayList<>(count);
+            for (int p = 0; p < count; p++) {
+                players.add(new Player(UUID.randomUUID().toString(), "Player" + p, Role.PLAYER));
+            }
+            rooms.add(players);
+        }
+        return rooms;
+    }
+
+    private Room compactRoom(List<Player> players) {
+        Room room = new Room("ABC123");
+        room.getPlayers().addAll(players);
+        fill(players, room.getCategorySuggestions(), room.getWordSuggestions(), room.getVotes());
+        return room;
+    }
+
+    private LegacyRoom legacyRoom(List<Player> players) {
+        LegacyRoom room = new LegacyRoom();
+        room.players.addAll(players);
+        fill(players, room.categorySuggestions, room.wordSuggestions, room.votes);
+        return room;
+    }
+
+    private void fill(List<Player> players, Map<String, String> categories, Map<String, String> words,
+            Map<String, String> votes) {
+        for (int p = 0; p < players.size(); p++) {
+            String id = players.get(p).getId();
+            categories.put(id, "Animals");
+            words.put(id, "Elephant");
+            votes.put(id, players.get((p + 1) % players.size()).getId());
+        }
+    }
+
+    private long bytesPerRoom(IntFunction<Object> factory) throws InterruptedException {
+        Object[] rooms = new Object[ROOMS];
+        long before = usedHeap();
+        for (int i = 0; i < ROOMS; i++) {
+            rooms[i] = factory.apply(i);
+        }
+        long after = usedHeap();
+        Reference.reachabilityFence(rooms);
+        return (after - before) / ROOMS;
+    }
+
+    private long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Room fields before seats, kept here as the baseline.
+     */
+    @SuppressWarnings("unused")
+    private static class LegacyRoom {
+        String roomCode = "ABC123";
+        List<Player> players = new ArrayList<>();
+        List<WordPool> wordPools = new ArrayList<>();
+        GameState gameState = GameState.LOBBY;
+        int maxRounds = 3;
+        int currentRound;
+        String impostorId;
+        String impostorName;
+        Map<String, String> categorySuggestions = new ConcurrentHashMap<>();
+        Map<String, String> wordSuggestions = new ConcurrentHashMap<>();
+        String selectedCategory;
+        String selectedWord;
+        Map<String, String> votes = new ConcurrentHashMap<>();
+        String firstSpeakerId;
+        String previousGameLastFirstSpeakerId;
+        String currentSpeakerId;
+        int clueTurn;
+        ClueLog clueLog = new ClueLog(ClueLog.DEFAULT_CAPACITY);
+        boolean isTieBreaker;
+        List<String> tiedPlayerIds = new ArrayList<>();
+        long version;
+        volatile RoomSnapshot snapshot;
+    }
+}
@@ -0,0 +1,61 @@
+package com.impostor.backend.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomSnapshotTest {
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room("TEST");
+        room.getPlayers().add(new Player("1", "User1", null));
+        room.getPlayers().add(new Player("2", "User2", null));
+    }
+
+    @Test
+    void testPublishBumpsVersion() {
+        RoomSnapshot first = room.publishSnapshot();
+        RoomSnapshot second = room.publishSnapshot();
+
+        assertEquals(1, first.getVersion());
+        assertEquals(2, second.getVersion());
+        assertSame(second, room.getSnapshot());
+    }
+
+    @Test
+    void testUnchangedPartsAreShared() {
+        RoomSnapshot before = room.publishSnapshot();
+        room.setCurrentRound(2);
+        RoomSnapshot after = room.publishSnapshot();
+
+        assertSame(before.getPlayers(), after.getPlayers());
+        assertSame(before.getTiedPlayerIds(), after.getTiedPlayerIds());
+        assertEquals(2, after.getCurrentRound());
+    }
+
+    @Test
+    void testOnlyChangedPlayerIsCopied() {
+        RoomSnapshot before = room.publishSnapshot();
+        room.getPlayers().get(1).setPresence(PresenceStatus.RECONNECTING);
+        RoomSnapshot after = room.publishSnapshot();
+
+        assertNotSame(before.getPlayers(), after.getPlayers());
+        assertSame(before.getPlayers().get(0), after.getPlayers().get(0));
+        assertEquals(PresenceStatus.ONLINE, before.getPlayers().get(1).getPresence());
+        assertEquals(PresenceStatus.RECONNECTING, after.getPlayers().get(1).getPresence());
+    }
+
+    @Test
+    void testSnapshotIsImmutable() {
+        RoomSnapshot snapshot = room.publishSnapshot();
+        room.getPlayers().add(new Player("3", "User3", null));
+
+        assertEquals(2, snapshot.getPlayers().size());
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.getPlayers().add(snapshot.getPlayers().get(0)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.impostor.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandDeduplicatorTest {
+
+    private long now = 1_000_000;
+    private CommandDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = new CommandDeduplicator(new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now);
+            }
+        }, 10_000, 4);
+    }
+
+    @Test
+    void testRetryIsDroppedOncePerSession() {
+        assertTrue(deduplicator.firstSeen("s1", "m1"));
+        assertFalse(deduplicator.firstSeen("s1", "m1"));
+        assertTrue(deduplicator.firstSeen("s2", "m1"));
+
+        assertEquals(3, deduplicator.snapshot().getChecked());
+        assertEquals(1, deduplicator.snapshot().getSuppressed());
+    }
+
+    @Test
+    void testMessagesWithoutIdAlwaysPass() {
+        assertTrue(deduplicator.firstSeen("s1", null));
+        assertTrue(deduplicator.firstSeen("s1", null));
+        assertTrue(deduplicator.firstSeen("s1", "x".repeat(CommandDeduplicator.MAX_MESSAGE_ID_LENGTH + 1)));
+        assertEquals(0, deduplicator.snapshot().getChecked());
+    }
+
+    @Test
+    void testIdsExpireAfterWindow() {
+        deduplicator.firstSeen("s1", "m1");
+        now += 10_000;
+        assertTrue(deduplicator.firstSeen("s1", "m1"));
+    }
+
+    @Test
+    void testOldestIdIsOverwrittenWhenWindowIsFull() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(deduplicator.firstSeen("s1", "m" + i));
+        }
+        assertTrue(deduplicator.firstSeen("s1", "m0"));
+        assertFalse(deduplicator.firstSeen("s1", "m4"));
+    }
+
+    @Test
+    void testWindowIsFreedOnDisconnect() {
+        deduplicator.firstSeen("s1", "m1");
+        assertEquals(1, deduplicator.snapshot().getSessions());
+
+        deduplicator.onDisconnected(new SessionDisconnectEvent(this,
+                MessageBuilder.withPayload(new byte[0]).build(), "s1", CloseStatus.NORMAL));
+        assertEquals(0, deduplicator.snapshot().getSessions());
+    }
+}
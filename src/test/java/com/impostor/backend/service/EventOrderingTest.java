@@ -0,0 +1,78 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.cluster.InMemoryRoomStore;
+import com.impostor.backend.cluster.LocalRoomEventBus;
+import com.impostor.backend.dto.RoomStatusDTO;
+import com.impostor.backend.model.Room;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventOrderingTest {
+
+    private static final int UPDATES = 2_000;
+
+    private GameEventDispatcher dispatcher;
+    private RoomService roomService;
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> true);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+        dispatcher = new GameEventDispatcher(template, new LocalRoomEventBus());
+        roomService = new RoomService(new InMemoryRoomStore(), 2);
+        gameService = new GameService(roomService, dispatcher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+        roomService.shutdown();
+    }
+
+    @Test
+    void testRacingProducersDeliverVersionsInOrder() throws Exception {
+        Room room = roomService.createRoom("Host", 3);
+        String roomCode = room.getRoomCode();
+        List<Long> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2 * UPDATES);
+        dispatcher.addListener(event -> {
+            if (event.getPayload() instanceof RoomStatusDTO) {
+                delivered.add(((RoomStatusDTO) event.getPayload()).getVersion());
+                done.countDown();
+            }
+        });
+
+        // A join broadcast from an HTTP thread racing commands applied on the shard
+        Thread joins = new Thread(() -> {
+            for (int i = 0; i < UPDATES; i++) {
+                gameService.broadcastRoomUpdate(room, "Guest joined.");
+            }
+        });
+        Thread commands = new Thread(() -> {
+            for (int i = 0; i < UPDATES; i++) {
+                gameService.resetGame(roomCode);
+            }
+        });
+        joins.start();
+        commands.start();
+        joins.join();
+        commands.join();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i < delivered.size(); i++) {
+            assertTrue(delivered.get(i) > delivered.get(i - 1),
+                    "version " + delivered.get(i) + " delivered after " + delivered.get(i - 1));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.dto.ClueDTO;
+import com.impostor.backend.dto.RoomStatusDTO;
+import com.impostor.backend.model.ClueLog;
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.model.Player;
+import com.impostor.backend.model.PresenceStatus;
+import com.impostor.backend.model.Role;
+import com.impostor.backend.model.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameReducerTest {
+
+    private GameReducer reducer;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        reducer = new GameReducer(new Random(42));
+        room = new Room("TEST");
+        room.getPlayers().add(new Player("1", "User1", null));
+        room.getPlayers().add(new Player("2", "User2", null));
+        room.getPlayers().add(new Player("3", "User3", null));
+    }
+
+    @Test
+    void testStartGameProducesPrivateRolesThenBroadcast() {
+        GameTransition transition = reducer.reduce(room, GameCommand.start());
+
+        assertEquals(GameState.CATEGORY_INPUT, room.getGameState());
+        List<GameEvent> events = transition.getEvents();
+        assertEquals(4, events.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(GameEvent.Type.USER, events.get(i).getType());
+            assertEquals("/queue/game", events.get(i).getDestination());
+        }
+        GameEvent last = events.get(3);
+        assertEquals(GameEvent.Type.BROADCAST, last.getType());
+        assertEquals("/topic/room/TEST", last.getDestination());
+        assertEquals(GameState.CATEGORY_INPUT, ((RoomStatusDTO) last.getPayload()).getGameState());
+    }
+
+    @Test
+    void testRejectedCommandProducesNoEvents() {
+        GameTransition transition = reducer.reduce(room, GameCommand.vote("1", "2"));
+
+        assertTrue(transition.getEvents().isEmpty());
+        assertTrue(room.getVotes().isEmpty());
+    }
+
+    @Test
+    void testBroadcastPayloadIsDetachedFromRoom() {
+        reducer.reduce(room, GameCommand.start());
+        RoomStatusDTO status = (RoomStatusDTO) reducer.roomUpdate(room, "x").getPayload();
+
+        room.getPlayers().get(0).setRole(Role.SPECTATOR);
+        room.getPlayers().add(new Player("4", "User4", null));
+
+        assertEquals(3, status.getPlayers().size());
+        assertNotEquals(Role.SPECTATOR, status.getPlayers().get(0).getRole());
+    }
+
+    @Test
+    void testImpostorEjectionEmitsGameFinished() {
+        reducer.reduce(room, GameCommand.start());
+        room.setGameState(GameState.VOTING);
+        String impostorId = room.getImpostorId();
+        List<String> others = room.getPlayers().stream()
+                .map(Player::getId)
+                .filter(id -> !id.equals(impostorId))
+                .toList();
+
+        reducer.reduce(room, GameCommand.vote(others.get(0), impostorId));
+        reducer.reduce(room, GameCommand.vote(others.get(1), impostorId));
+        List<GameEvent> events = reducer.reduce(room, GameCommand.vote(impostorId, others.get(0))).getEvents();
+
+        assertEquals(GameState.FINISHED, room.getGameState());
+        GameEvent last = events.get(events.size() - 1);
+        assertEquals(GameEvent.Type.INTERNAL, last.getType());
+        GameFinished finished = (GameFinished) last.getPayload();
+        assertFalse(finished.isImpostorWon());
+        assertEquals(room.getImpostorName(), finished.getImpostor());
+        assertEquals(2, finished.getCrew().size());
+        assertEquals(2, finished.getFinders().size());
+    }
+
+    @Test
+    void testCluesFollowSpeakingOrderThenOpenVoting() {
+        room.getPlayers().forEach(p -> p.setRole(Role.PLAYER));
+        room.setGameState(GameState.WORD_INPUT);
+        reducer.reduce(room, GameCommand.word("1", "apple"));
+        reducer.reduce(room, GameCommand.word("2", "apple"));
+        reducer.reduce(room, GameCommand.word("3", "apple"));
+
+        assertEquals(GameState.CLUE_INPUT, room.getGameState());
+        String first = room.getFirstSpeakerId();
+        assertEquals(first, room.getCurrentSpeakerId());
+
+        // Out of turn clues are ignored
+        String other = first.equals("1") ? "2" : "1";
+        assertTrue(reducer.reduce(room, GameCommand.clue(other, "nope")).getEvents().isEmpty());
+
+        List<GameEvent> events = reducer.reduce(room, GameCommand.clue(first, "red")).getEvents();
+        assertEquals(1, events.size());
+        assertEquals("/topic/room/TEST/clues", events.get(0).getDestination());
+        ClueDTO clue = (ClueDTO) events.get(0).getPayload();
+        assertEquals("red", clue.getClue());
+        assertEquals(room.getCurrentSpeakerId(), clue.getNextSpeakerId());
+
+        reducer.reduce(room, GameCommand.clue(room.getCurrentSpeakerId(), "round"));
+        events = reducer.reduce(room, GameCommand.clue(room.getCurrentSpeakerId(), "fruit")).getEvents();
+        assertNull(((ClueDTO) events.get(0).getPayload()).getNextSpeakerId());
+        assertEquals(GameState.VOTING, room.getGameState());
+        assertEquals(3, room.getClueLog().size());
+    }
+
+    @Test
+    void testClueLogKeepsOnlyMostRecent() {
+        ClueLog log = new ClueLog(4);
+        for (int i = 0; i < 10; i++) {
+            log.append(i / 3 + 1, "1", "User1", "clue" + i);
+        }
+
+        List<ClueLog.Clue> recent = log.recent();
+        assertEquals(4, recent.size());
+        assertEquals(6, recent.get(0).getSeq());
+        assertEquals("clue9", recent.get(3).getText());
+    }
+
+    @Test
+    void testOfflineSpeakerIsSkipped() {
+        room.getPlayers().forEach(p -> p.setRole(Role.PLAYER));
+        room.setFirstSpeakerId("1");
+        room.setGameState(GameState.WORD_INPUT);
+        room.setPreviousGameLastFirstSpeakerId("1");
+        reducer.reduce(room, GameCommand.word("1", "apple"));
+        reducer.reduce(room, GameCommand.word("2", "apple"));
+        reducer.reduce(room, GameCommand.word("3", "apple"));
+        assertEquals("1", room.getCurrentSpeakerId());
+
+        reducer.reduce(room, GameCommand.presence("1", PresenceStatus.OFFLINE));
+        assertEquals("2", room.getCurrentSpeakerId());
+        reducer.reduce(room, GameCommand.clue("2", "red"));
+        reducer.reduce(room, GameCommand.presence("3", PresenceStatus.OFFLINE));
+        assertEquals(GameState.VOTING, room.getGameState());
+    }
+}
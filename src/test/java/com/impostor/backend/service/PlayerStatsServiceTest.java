@@ -0,0 +1,184 @@
+package com.impostor.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impostor.backend.dto.PlayerStatsDTO;
+import com.impostor.backend.store.FileStatsStore;
+import com.impostor.backend.store.NoopStatsStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PlayerStatsServiceTest {
+
+    private PlayerStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new PlayerStatsService(mock(GameEventDispatcher.class), new NoopStatsStore(), 60_000, 2);
+    }
+
+    @Test
+    void testCrewWinCountsFinders() {
+        statsService.record(new GameFinished("R1", "Imp", false, List.of("A", "B"), List.of("A")));
+
+        PlayerStatsDTO imp = statsService.getStats("Imp");
+        assertEquals(1, imp.getGamesPlayed());
+        assertEquals(0, imp.getWins());
+        assertEquals(1, imp.getImpostorGames());
+
+        PlayerStatsDTO a = statsService.getStats("A");
+        assertEquals(1, a.getWins());
+        assertEquals(1, a.getImpostorsFound());
+        assertEquals(0, statsService.getStats("B").getImpostorsFound());
+        assertNull(statsService.getStats("Nobody"));
+    }
+
+    @Test
+    void testLeaderboardOrderedByWins() {
+        statsService.record(new GameFinished("R1", "A", true, List.of("B", "C"), List.of()));
+        statsService.record(new GameFinished("R2", "A", true, List.of("B", "C"), List.of()));
+        statsService.record(new GameFinished("R3", "C", false, List.of("A", "B"), List.of("B")));
+
+        List<PlayerStatsDTO> top = statsService.top(2);
+        assertEquals(2, top.size());
+        assertEquals("A", top.get(0).getUsername());
+        assertEquals(3, top.get(0).getWins());
+        assertEquals(2, top.get(0).getImpostorWins());
+        assertEquals("B", top.get(1).getUsername());
+    }
+
+    @Test
+    void testConcurrentGamesKeepOneEntryPerPlayer() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 4000; i++) {
+            String impostor = "P" + (i % 10);
+            pool.execute(() -> statsService.record(
+                    new GameFinished("R", impostor, true, List.of("Crew"), List.of())));
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<PlayerStatsDTO> top = statsService.top(100);
+        assertEquals(10, top.size());
+        top.forEach(p -> assertEquals(400, p.getWins()));
+        assertEquals(4000, statsService.getStats("Crew").getGamesPlayed());
+    }
+
+    @Test
+    void testLeaderboardKeepsOnlyTheBest() {
+        int players = PlayerStatsService.LEADERBOARD_SIZE + 50;
+        // Pi wins i + 1 games, so the best are the highest numbers
+        for (int i = 0; i < players; i++) {
+            for (int w = 0; w <= i; w++) {
+                statsService.record(new GameFinished("R", "P" + i, true, List.of(), List.of()));
+            }
+        }
+        assertEquals(PlayerStatsService.LEADERBOARD_SIZE, statsService.rankedPlayers());
+        List<PlayerStatsDTO> top = statsService.top(PlayerStatsService.LEADERBOARD_SIZE);
+        assertEquals("P" + (players - 1), top.get(0).getUsername());
+        assertEquals("P50", top.get(top.size() - 1).getUsername());
+
+        // A player pushed out gets back in once they win enough
+        for (int w = 0; w < players; w++) {
+            statsService.record(new GameFinished("R", "P0", true, List.of(), List.of()));
+        }
+        assertEquals(PlayerStatsService.LEADERBOARD_SIZE, statsService.rankedPlayers());
+        assertEquals("P0", statsService.top(1).get(0).getUsername());
+        assertEquals(players + 1, statsService.top(1).get(0).getWins());
+    }
+
+    @Test
+    void testWarmAllLoadsColdPlayersInOneStoreCall() {
+        List<Collection<String>> calls = new ArrayList<>();
+        PlayerStatsService stats = new PlayerStatsService(mock(GameEventDispatcher.class), new NoopStatsStore() {
+            @Override
+            public Map<String, PlayerStatsDTO> loadAll(Collection<String> usernames) {
+                calls.add(List.copyOf(usernames));
+                return Map.of("Saved", new PlayerStatsDTO("Saved", 4, 2, 2, 0, 0, 0));
+            }
+        }, 60_000, 100);
+
+        stats.warmAll(List.of("Saved", "New"));
+        stats.warmAll(List.of("Saved"));
+
+        assertEquals(List.of(List.of("Saved", "New")), calls);
+        assertEquals(2, stats.getStats("Saved").getWins());
+    }
+
+    @Test
+    void testInMemoryStatsAreNeverEvicted() {
+        for (int i = 0; i < 5; i++) {
+            statsService.record(new GameFinished("R", "P" + i, true, List.of(), List.of()));
+        }
+        statsService.flush();
+        assertEquals(5, statsService.cachedPlayers());
+    }
+
+    @Test
+    void testSavedPlayersAreEvictedBeyondLimit(@TempDir Path dir) throws Exception {
+        try (FileStatsStore store = new FileStatsStore(new ObjectMapper(), dir, 10)) {
+            PlayerStatsService stats = new PlayerStatsService(mock(GameEventDispatcher.class), store, 60_000, 2);
+            for (int i = 0; i < 5; i++) {
+                stats.record(new GameFinished("R", "P" + i, true, List.of(), List.of()));
+            }
+            stats.flush();
+            assertEquals(2, stats.cachedPlayers());
+
+            // Evicted players come back from the store with their counters intact
+            for (int i = 0; i < 5; i++) {
+                stats.record(new GameFinished("R", "P" + i, true, List.of(), List.of()));
+            }
+            for (int i = 0; i < 5; i++) {
+                assertEquals(2, stats.getStats("P" + i).getWins());
+            }
+            assertEquals(5, stats.top(10).size());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testColdPlayersAreLoadedOffTheDispatcherLane(@TempDir Path dir) throws Exception {
+        Set<String> loadThreads = ConcurrentHashMap.newKeySet();
+        try (FileStatsStore store = new FileStatsStore(new ObjectMapper(), dir, 10) {
+            @Override
+            public PlayerStatsDTO load(String username) {
+                loadThreads.add(Thread.currentThread().getName());
+                return super.load(username);
+            }
+        }) {
+            store.saveAll(List.of(new PlayerStatsDTO("Cold", 3, 3, 0, 3, 3, 0)));
+            GameEventDispatcher dispatcher = mock(GameEventDispatcher.class);
+            PlayerStatsService stats = new PlayerStatsService(dispatcher, store, 60_000, 100);
+            ArgumentCaptor<Consumer<GameEvent>> listener = ArgumentCaptor.forClass(Consumer.class);
+            verify(dispatcher).addListener(listener.capture());
+
+            listener.getValue().accept(GameEvent.internal(
+                    new GameFinished("R", "Cold", true, List.of("New"), List.of())));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (stats.cachedPlayers() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(Set.of("stats-writer"), loadThreads);
+            assertEquals(4, stats.getStats("Cold").getWins());
+            assertEquals(1, stats.getStats("New").getGamesPlayed());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.cluster.InMemoryRoomStore;
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.model.Player;
+import com.impostor.backend.model.PresenceStatus;
+import com.impostor.backend.model.Role;
+import com.impostor.backend.model.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceLogicTest {
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private GameEventDispatcher eventDispatcher;
+
+    @InjectMocks
+    private GameService gameService;
+
+    private Room room;
+    private Player p1, p2, p3, p4;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room("TEST");
+        p1 = new Player("1", "User1", Role.PLAYER);
+        p2 = new Player("2", "User2", Role.PLAYER);
+        p3 = new Player("3", "User3", Role.PLAYER);
+        p4 = new Player("4", "User4", Role.IMPOSTOR);
+
+        room.getPlayers().add(p1);
+        room.getPlayers().add(p2);
+        room.getPlayers().add(p3);
+        room.getPlayers().add(p4);
+
+        lenient().when(roomService.getRoom("TEST")).thenReturn(room);
+    }
+
+    @Test
+    void testReconnectingPlayerIsStillAwaited() {
+        room.setGameState(GameState.VOTING);
+
+        gameService.updatePresence("TEST", "3", PresenceStatus.RECONNECTING);
+        gameService.vote("TEST", "1", "4");
+        gameService.vote("TEST", "2", "4");
+        gameService.vote("TEST", "4", "1");
+
+        assertEquals(PresenceStatus.RECONNECTING, p3.getPresence());
+        assertEquals(GameState.VOTING, room.getGameState());
+        assertEquals(3, room.getVotes().size());
+    }
+
+    @Test
+    void testOfflinePlayerNoLongerBlocksVoting() {
+        room.setGameState(GameState.VOTING);
+
+        gameService.vote("TEST", "1", "4");
+        gameService.vote("TEST", "2", "4");
+        gameService.vote("TEST", "4", "1");
+        assertEquals(GameState.VOTING, room.getGameState());
+
+        // The last pending voter leaves: results are calculated without them
+        gameService.updatePresence("TEST", "3", PresenceStatus.OFFLINE);
+
+        assertEquals(GameState.FINISHED, room.getGameState());
+        verify(roomService).release(room, "3");
+    }
+
+    @Test
+    void testOfflinePlayerNoLongerBlocksCategoryInput() {
+        room.setGameState(GameState.CATEGORY_INPUT);
+
+        gameService.submitCategory("TEST", "1", "Animales");
+        gameService.submitCategory("TEST", "2", "Frutas");
+        gameService.submitCategory("TEST", "4", "Paises");
+        gameService.updatePresence("TEST", "3", PresenceStatus.OFFLINE);
+
+        assertEquals(GameState.WORD_INPUT, room.getGameState());
+        assertNotNull(room.getSelectedCategory());
+    }
+
+    @Test
+    void testOfflinePlayerIsRemovedFromLobby() {
+        gameService.updatePresence("TEST", "2", PresenceStatus.OFFLINE);
+
+        assertEquals(3, room.getPlayers().size());
+        assertFalse(room.getPlayers().contains(p2));
+    }
+
+    @Test
+    void testFinishedRoomIsDroppedOnceEveryoneLeaves() {
+        RoomService rooms = new RoomService(new InMemoryRoomStore(), 1);
+        try {
+            GameService game = new GameService(rooms, eventDispatcher);
+            Room finished = rooms.createRoom("Host", 3);
+            String code = finished.getRoomCode();
+            rooms.joinRoom(code, "Guest1", "g1");
+            rooms.joinRoom(code, "Guest2", "g2");
+            finished.setGameState(GameState.FINISHED);
+            String hostId = finished.getPlayers().get(0).getId();
+
+            game.updatePresence(code, hostId, PresenceStatus.OFFLINE);
+            game.updatePresence(code, "g1", PresenceStatus.OFFLINE);
+            assertSame(finished, rooms.getRoom(code));
+
+            game.updatePresence(code, "g2", PresenceStatus.OFFLINE);
+            assertNull(rooms.getRoom(code));
+            assertNull(rooms.getRoomCodeOfPlayer(hostId));
+            assertNull(rooms.getRoomCodeOfPlayer("g1"));
+            assertEquals(0, rooms.countRoomsByState().values().stream().mapToInt(Integer::intValue).sum());
+        } finally {
+            rooms.shutdown();
+        }
+    }
+}
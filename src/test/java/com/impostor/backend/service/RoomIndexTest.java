@@ -0,0 +1,126 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.dto.AdminRoomDTO;
+import com.impostor.backend.dto.AdminRoomPageDTO;
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.model.Player;
+import com.impostor.backend.model.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomIndexTest {
+
+    private long now = 1_000_000;
+    private RoomIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomIndex(new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now);
+            }
+        });
+    }
+
+    @Test
+    void testIdleRoomsInState() {
+        index.update(room("A", GameState.VOTING, 3));
+        now += 60_000;
+        index.update(room("B", GameState.VOTING, 3));
+        index.update(room("C", GameState.LOBBY, 3));
+        now += 10 * 60_000;
+        index.update(room("D", GameState.VOTING, 3));
+
+        AdminRoomPageDTO page = index.query(GameState.VOTING, 10 * 60_000, 0, 10, null);
+        assertEquals(List.of("A", "B"), codes(page));
+        assertEquals(11 * 60_000, page.getRooms().get(0).getIdleMillis());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testTransitionMovesRoomBetweenIndexes() {
+        Room room = room("A", GameState.LOBBY, 3);
+        index.update(room);
+        room.setGameState(GameState.VOTING);
+        room.getPlayers().add(new Player("x", "X", null));
+        index.update(room);
+
+        assertTrue(codes(index.query(GameState.LOBBY, 0, 0, 10, null)).isEmpty());
+        AdminRoomDTO voting = index.query(GameState.VOTING, 0, 0, 10, null).getRooms().get(0);
+        assertEquals(4, voting.getPlayerCount());
+        assertEquals(0, index.countByState().get(GameState.LOBBY));
+        assertEquals(1, index.countByState().get(GameState.VOTING));
+
+        index.remove("A");
+        assertEquals(0, index.countByState().get(GameState.VOTING));
+    }
+
+    @Test
+    void testLargestRoomsArePaged() {
+        for (int i = 0; i < 30; i++) {
+            index.update(room("R" + i, i % 2 == 0 ? GameState.VOTING : GameState.LOBBY, i));
+        }
+
+        AdminRoomPageDTO first = index.query(null, 0, 20, 4, null);
+        assertEquals(List.of("R29", "R28", "R27", "R26"), codes(first));
+        AdminRoomPageDTO second = index.query(null, 0, 20, 4, first.getNextCursor());
+        assertEquals(List.of("R25", "R24", "R23", "R22"), codes(second));
+        AdminRoomPageDTO last = index.query(null, 0, 20, 4, second.getNextCursor());
+        assertEquals(List.of("R21", "R20"), codes(last));
+        assertNull(last.getNextCursor());
+
+        assertEquals(List.of("R28", "R26", "R24", "R22", "R20"), codes(index.query(GameState.VOTING, 0, 20, 10, null)));
+        assertThrows(IllegalArgumentException.class, () -> index.query(null, 0, 20, 4, "bogus"));
+    }
+
+    @Test
+    void testLargestRoomsInStateArePaged() {
+        for (int i = 0; i < 30; i++) {
+            index.update(room("R" + i, i % 3 == 0 ? GameState.VOTING : GameState.LOBBY, i));
+        }
+
+        AdminRoomPageDTO first = index.query(GameState.VOTING, 0, 10, 2, null);
+        assertEquals(List.of("R27", "R24"), codes(first));
+        AdminRoomPageDTO second = index.query(GameState.VOTING, 0, 10, 2, first.getNextCursor());
+        assertEquals(List.of("R21", "R18"), codes(second));
+        AdminRoomPageDTO last = index.query(GameState.VOTING, 0, 10, 2, second.getNextCursor());
+        assertEquals(List.of("R15", "R12"), codes(last));
+        assertNull(index.query(GameState.VOTING, 0, 10, 2, last.getNextCursor()).getNextCursor());
+
+        Room moved = room("R27", GameState.LOBBY, 27);
+        index.update(moved);
+        assertEquals(List.of("R24"), codes(index.query(GameState.VOTING, 0, 10, 1, null)));
+    }
+
+    private Room room(String code, GameState state, int players) {
+        Room room = new Room(code);
+        room.setGameState(state);
+        for (int i = 0; i < players; i++) {
+            room.getPlayers().add(new Player(code + i, "P" + i, null));
+        }
+        return room;
+    }
+
+    private List<String> codes(AdminRoomPageDTO page) {
+        return page.getRooms().stream().map(AdminRoomDTO::getRoomCode).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,104 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.cluster.InMemoryRoomStore;
+import com.impostor.backend.cluster.LocalRoomEventBus;
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.model.Player;
+import com.impostor.backend.model.Role;
+import com.impostor.backend.model.Room;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput of room commands as the number of shards grows, checking that each
+ * shard count up to the core count reaches at least {@value #MIN_EFFICIENCY} of
+ * a linear speed-up over a single shard. A manual benchmark, skipped in the
+ * normal build; on a single core only the baseline runs.
+ * Run with {@code mvn test -Dtest=RoomShardingBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RoomShardingBenchmarkTest {
+
+    private static final int ROOMS = 4096;
+    private static final int PLAYERS_PER_ROOM = 8;
+    private static final int OPS = 1_000_000;
+    // Share of a linear speed-up each shard count must reach; leaves room for noise and shared lanes
+    private static final double MIN_EFFICIENCY = 0.6;
+
+    @Test
+    void benchmarkShardScaling() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        double baseline = 0;
+        for (int shards = 1; shards <= cores; shards *= 2) {
+            run(shards); // warm-up
+            double opsPerSecond = run(shards);
+            if (shards == 1) {
+                baseline = opsPerSecond;
+            }
+            System.out.printf("shards=%d ops/s=%.0f speedup=%.2fx%n", shards, opsPerSecond, opsPerSecond / baseline);
+            double expected = baseline * shards * MIN_EFFICIENCY;
+            assertTrue(opsPerSecond >= expected,
+                    String.format("%d shards ran %.0f ops/s, below the %.0f ops/s of a %.1fx speed-up", shards,
+                            opsPerSecond, expected, shards * MIN_EFFICIENCY));
+        }
+    }
+
+    private double run(int shardCount) throws Exception {
+        RoomService roomService = new RoomService(new InMemoryRoomStore(), shardCount);
+        GameEventDispatcher dispatcher = new GameEventDispatcher(new SimpMessagingTemplate((message, timeout) -> true),
+                new LocalRoomEventBus());
+        GameService gameService = new GameService(roomService, dispatcher);
+
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            Room room = roomService.createRoom("Host" + i, 3);
+            for (int p = 1; p < PLAYERS_PER_ROOM; p++) {
+                roomService.joinRoom(room.getRoomCode(), "Player" + p, room.getRoomCode() + "-" + p);
+            }
+            // Everyone is crew; neither the host nor the pending player ever submits, so rooms stay in WORD_INPUT
+            room.getPlayers().forEach(player -> player.setRole(Role.PLAYER));
+            room.getPlayers().add(new Player(room.getRoomCode() + "-x", "Pending", Role.PLAYER));
+            room.setGameState(GameState.WORD_INPUT);
+            rooms.add(room);
+        }
+
+        int producers = Math.max(2, shardCount);
+        CountDownLatch done = new CountDownLatch(OPS);
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < producers; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                for (int i = offset; i < OPS; i += producers) {
+                    Room room = rooms.get(i % ROOMS);
+                    String code = room.getRoomCode();
+                    String playerId = code + "-" + (1 + i % (PLAYERS_PER_ROOM - 1));
+                    roomService.execute(code, () -> {
+                        gameService.submitWord(code, playerId, "word");
+                        done.countDown();
+                    });
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        roomService.shutdown();
+        dispatcher.shutdown();
+
+        rooms.forEach(room -> assertEquals(GameState.WORD_INPUT, room.getGameState()));
+        return OPS / (elapsed / 1_000_000_000.0);
+    }
+}
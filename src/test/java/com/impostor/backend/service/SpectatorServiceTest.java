@@ -0,0 +1,107 @@
+package com.impostor.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impostor.backend.cluster.InMemoryRoomStore;
+import com.impostor.backend.cluster.LocalRoomEventBus;
+import com.impostor.backend.model.Room;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpectatorServiceTest {
+
+    private GameEventDispatcher dispatcher;
+    private RoomService roomService;
+    private ThreadPoolTaskScheduler scheduler;
+    private SpectatorService spectatorService;
+
+    @BeforeEach
+    void setUp() {
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> true);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+        dispatcher = new GameEventDispatcher(template, new LocalRoomEventBus());
+        roomService = new RoomService(new InMemoryRoomStore(), 1);
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        // A single sender, so one stuck client would otherwise starve everyone
+        spectatorService = new SpectatorService(new ObjectMapper(), roomService, dispatcher, scheduler,
+                60_000, 60_000, 1, 200);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        spectatorService.shutdown();
+        dispatcher.shutdown();
+        roomService.shutdown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testStalledWriteDoesNotStarveOtherWatchers() throws Exception {
+        Room room = roomService.createRoom("Host", 3);
+        String roomCode = room.getRoomCode();
+
+        StuckEmitter stuck = new StuckEmitter();
+        spectatorService.attach(roomCode, null, stuck);
+        assertTrue(stuck.writing.await(5, TimeUnit.SECONDS));
+
+        CountingEmitter reader = new CountingEmitter(2);
+        spectatorService.attach(roomCode, null, reader);
+        new GameService(roomService, dispatcher).broadcastRoomUpdate(room, "Guest joined.");
+
+        // Snapshot and update arrive once the stuck write passes the send timeout
+        assertTrue(reader.received.await(5, TimeUnit.SECONDS));
+        assertEquals(1, stuck.completed.getCount(), "the blocked emitter's lock is never taken by the check");
+
+        stuck.release.countDown();
+        assertTrue(stuck.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, stuck.sends);
+    }
+
+    private static class StuckEmitter extends SseEmitter {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile int sends;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sends++;
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static class CountingEmitter extends SseEmitter {
+        final CountDownLatch received;
+
+        CountingEmitter(int frames) {
+            received = new CountDownLatch(frames);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            received.countDown();
+        }
+    }
+}
@@ -10,7 +10,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.util.ArrayList;
 
@@ -26,7 +25,7 @@ class TieBreakerLogicTest {
     private RoomService roomService;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private GameEventDispatcher eventDispatcher;
 
     @InjectMocks
     private GameService gameService;
@@ -0,0 +1,65 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.dto.ClueDTO;
+import com.impostor.backend.dto.RoomStatusDTO;
+import com.impostor.backend.model.PlayerSnapshot;
+import com.impostor.backend.model.Role;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Plays every player of every room it hears about, the way connected clients
+ * would: each phase's inputs go through the room's shard as STOMP handlers
+ * send them. In the vote, everyone picks the same random active player.
+ */
+class TournamentBot implements Consumer<GameEvent> {
+
+    private final RoomService roomService;
+    private final GameService gameService;
+
+    TournamentBot(RoomService roomService, GameService gameService) {
+        this.roomService = roomService;
+        this.gameService = gameService;
+    }
+
+    @Override
+    public void accept(GameEvent event) {
+        if (event.getPayload() instanceof ClueDTO) {
+            String nextSpeakerId = ((ClueDTO) event.getPayload()).getNextSpeakerId();
+            // Destination is /topic/room/{code}/clues
+            String roomCode = event.getDestination().split("/")[3];
+            if (nextSpeakerId != null)
+                roomService.execute(roomCode, () -> gameService.submitClue(roomCode, nextSpeakerId, "hint"));
+        } else if (event.getPayload() instanceof RoomStatusDTO) {
+            play((RoomStatusDTO) event.getPayload());
+        }
+    }
+
+    private void play(RoomStatusDTO status) {
+        String code = status.getRoomCode();
+        List<PlayerSnapshot> active = status.getPlayers().stream()
+                .filter(p -> p.getRole() != Role.SPECTATOR)
+                .collect(Collectors.toList());
+        // Inputs from a stale update are ignored by the reducer, so no need to track phases here
+        switch (status.getGameState()) {
+            case CATEGORY_INPUT -> active.forEach(
+                    p -> roomService.execute(code, () -> gameService.submitCategory(code, p.getId(), "Animals")));
+            case WORD_INPUT -> active.forEach(
+                    p -> roomService.execute(code, () -> gameService.submitWord(code, p.getId(), "Elephant")));
+            case CLUE_INPUT -> {
+                String speakerId = status.getCurrentSpeakerId();
+                if (speakerId != null)
+                    roomService.execute(code, () -> gameService.submitClue(code, speakerId, "hint"));
+            }
+            case VOTING -> {
+                String target = active.get(ThreadLocalRandom.current().nextInt(active.size())).getId();
+                active.forEach(p -> roomService.execute(code, () -> gameService.vote(code, p.getId(), target)));
+            }
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.cluster.InMemoryRoomStore;
+import com.impostor.backend.cluster.LocalRoomEventBus;
+import com.impostor.backend.dto.CreateTournamentDTO;
+import com.impostor.backend.dto.TournamentCreatedDTO;
+import com.impostor.backend.dto.TournamentDTO;
+import com.impostor.backend.dto.TournamentSeatDTO;
+import com.impostor.backend.model.GameState;
+import com.impostor.backend.model.Player;
+import com.impostor.backend.model.PresenceStatus;
+import com.impostor.backend.model.Room;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentServiceTest {
+
+    private GameEventDispatcher dispatcher;
+    private RoomService roomService;
+    private GameService gameService;
+    private ThreadPoolTaskScheduler scheduler;
+    private TournamentService tournamentService;
+    private final List<TournamentService> services = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> true);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+        dispatcher = new GameEventDispatcher(template, new LocalRoomEventBus());
+        roomService = new RoomService(new InMemoryRoomStore(), 2);
+        gameService = new GameService(roomService, dispatcher);
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        tournamentService = service(0, 60_000, 60_000);
+    }
+
+    private TournamentService service(long startDelayMillis, long roundTimeoutMillis, long retentionMillis) {
+        TournamentService service = new TournamentService(roomService, gameService, dispatcher, scheduler,
+                startDelayMillis, roundTimeoutMillis, retentionMillis, "local");
+        services.add(service);
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (TournamentService service : services) {
+            service.shutdown();
+        }
+        dispatcher.shutdown();
+        roomService.shutdown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testBracketRunsToAChampion() throws Exception {
+        dispatcher.addListener(new TournamentBot(roomService, gameService));
+        TournamentDTO created = tournamentService.create(request(30, 5, 1)).getTournament();
+        TournamentDTO done = awaitChampion(created.getId(), 30_000);
+
+        // 30 players -> 6 rooms -> 6 players in 2 rooms -> 2 from each into a final of 4
+        assertEquals(3, done.getRound());
+        assertEquals(1, done.getRooms());
+        assertEquals(1, done.getPlayersRemaining());
+
+        TournamentSeatDTO champion = tournamentService.getSeat(created.getId(), done.getChampion(), null);
+        assertEquals(3, champion.getRound());
+        assertFalse(champion.isEliminated());
+        long eliminated = 0;
+        for (int i = 0; i < 30; i++) {
+            if (tournamentService.getSeat(created.getId(), "Player" + i, null).isEliminated())
+                eliminated++;
+        }
+        assertEquals(29, eliminated);
+    }
+
+    @Test
+    void testPlayerIdsNeedTheEntrantKey() throws Exception {
+        TournamentCreatedDTO created = tournamentService.create(request(3, 3, 1));
+        String id = created.getTournament().getId();
+        assertEquals(Set.of("Player0", "Player1", "Player2"), created.getEntrantKeys().keySet());
+        TournamentSeatDTO open = awaitSeat(id, "Player1");
+        assertNull(open.getPlayerId());
+
+        TournamentSeatDTO own = tournamentService.getSeat(id, "Player1", created.getEntrantKeys().get("Player1"));
+        assertEquals("Player1", roomService.getRoom(own.getRoomCode()).getPlayers().stream()
+                .filter(p -> p.getId().equals(own.getPlayerId()))
+                .findFirst().orElseThrow().getUsername());
+
+        // One entrant's key does not open another's seat
+        String rivalKey = created.getEntrantKeys().get("Player2");
+        assertThrows(IllegalArgumentException.class, () -> tournamentService.getSeat(id, "Player1", rivalKey));
+    }
+
+    @Test
+    void testDelayedRoundsWaitForTheStartTimer() throws Exception {
+        dispatcher.addListener(new TournamentBot(roomService, gameService));
+        tournamentService = service(1_000, 60_000, 60_000);
+        String id = tournamentService.create(request(9, 3, 1)).getTournament().getId();
+
+        Room room = roomService.getRoom(awaitSeat(id, "Player0").getRoomCode());
+        assertEquals(GameState.LOBBY, room.getSnapshot().getGameState());
+        TournamentDTO done = awaitChampion(id, 30_000);
+        // 9 players -> 3 rooms -> final of 3, each round held back by the delay
+        assertEquals(2, done.getRound());
+        assertTrue(done.getElapsedMillis() >= 2_000);
+    }
+
+    @Test
+    void testRoomsThatCannotStartAreForfeited() throws Exception {
+        dispatcher.addListener(new TournamentBot(roomService, gameService));
+        tournamentService = service(500, 60_000, 60_000);
+        String id = tournamentService.create(request(9, 3, 1)).getTournament().getId();
+
+        // Everyone in the first round walks away before it starts
+        Set<String> roomCodes = new HashSet<>();
+        for (int i = 0; i < 9; i++) {
+            roomCodes.add(awaitSeat(id, "Player" + i).getRoomCode());
+        }
+        assertEquals(3, roomCodes.size());
+        for (String roomCode : roomCodes) {
+            Room room = roomService.getRoom(roomCode);
+            roomService.execute(roomCode, () -> roomService.removeRoom(room));
+        }
+
+        // Far sooner than the round timeout
+        TournamentDTO done = awaitChampion(id, 10_000);
+        assertEquals(2, done.getRound());
+    }
+
+    @Test
+    void testStalledRoomsAreForfeitedAtTheDeadline() throws Exception {
+        // No bot, so no game ever finishes
+        tournamentService = service(0, 300, 60_000);
+        String id = tournamentService.create(request(9, 3, 1)).getTournament().getId();
+
+        TournamentDTO done = awaitChampion(id, 10_000);
+        assertEquals(2, done.getRound());
+        TournamentSeatDTO champion = tournamentService.getSeat(id, done.getChampion(), null);
+        assertNotEquals(GameState.LOBBY, roomService.getRoom(champion.getRoomCode()).getSnapshot().getGameState());
+    }
+
+    @Test
+    void testFinishedTournamentsAreDroppedWithTheirRooms() throws Exception {
+        dispatcher.addListener(new TournamentBot(roomService, gameService));
+        tournamentService = service(0, 60_000, 200);
+        String id = tournamentService.create(request(9, 3, 1)).getTournament().getId();
+        Set<String> roomCodes = new HashSet<>();
+        for (int i = 0; i < 9; i++) {
+            roomCodes.add(awaitSeat(id, "Player" + i).getRoomCode());
+        }
+        TournamentDTO done = awaitChampion(id, 30_000);
+        roomCodes.add(tournamentService.getSeat(id, done.getChampion(), null).getRoomCode());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (tournamentService.get(id) != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertNull(tournamentService.get(id));
+        // Rooms are dropped on their shards right after
+        Thread.sleep(200);
+        roomCodes.forEach(code -> assertNull(roomService.getRoom(code)));
+    }
+
+    @Test
+    void testSeatingDoesNotNeedTheGameScheduler() throws Exception {
+        // Every scheduler thread is busy, as under heartbeat and presence load
+        CountDownLatch busy = new CountDownLatch(1);
+        for (int i = 0; i < scheduler.getScheduledThreadPoolExecutor().getCorePoolSize(); i++) {
+            scheduler.execute(() -> {
+                try {
+                    busy.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        try {
+            String id = tournamentService.create(request(30, 5, 1)).getTournament().getId();
+            for (int i = 0; i < 30; i++) {
+                TournamentSeatDTO seat = awaitSeat(id, "Player" + i);
+                assertNotNull(roomService.getRoom(seat.getRoomCode()));
+            }
+        } finally {
+            busy.countDown();
+        }
+    }
+
+    @Test
+    void testTournamentsNeedLocalClusterMode() {
+        TournamentService clustered = new TournamentService(roomService, gameService, dispatcher, scheduler, 0,
+                60_000, 60_000, "loopback");
+        services.add(clustered);
+        assertThrows(IllegalStateException.class, () -> clustered.create(request(3, 3, 1)));
+    }
+
+    @Test
+    void testInvalidTournamentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> tournamentService.create(request(2, 5, 1)));
+
+        CreateTournamentDTO duplicates = request(5, 5, 1);
+        duplicates.getUsernames().set(1, "player0");
+        assertThrows(IllegalArgumentException.class, () -> tournamentService.create(duplicates));
+    }
+
+    @Test
+    void testRankingPutsWinnersFirst() {
+        List<String> entrants = List.of("A", "B", "C", "D");
+
+        GameFinished impostorWon = new GameFinished("R", "C", true, List.of("A", "B", "D"), List.of());
+        assertEquals(List.of("C", "A", "B", "D"), TournamentService.rank(impostorWon, entrants));
+
+        // Finders come first in seat order, outsiders are dropped and missing entrants go last
+        GameFinished crewWon = new GameFinished("R", "C", false, List.of("A", "B", "X"), List.of("X", "B"));
+        assertEquals(List.of("B", "A", "C", "D"), TournamentService.rank(crewWon, entrants));
+    }
+
+    @Test
+    void testForfeitRanksPlayersStillAroundFirst() {
+        List<String> entrants = List.of("A", "B", "C");
+        Room room = new Room("R");
+        for (String username : entrants) {
+            room.getPlayers().add(new Player(username.toLowerCase(), username, null));
+        }
+        room.getPlayers().get(0).setPresence(PresenceStatus.OFFLINE);
+        room.getPlayers().get(1).setPresence(PresenceStatus.RECONNECTING);
+
+        assertEquals(List.of("B", "C", "A"), TournamentService.rankForfeit(room.publishSnapshot(), entrants));
+        assertEquals(entrants, TournamentService.rankForfeit(null, entrants));
+    }
+
+    static CreateTournamentDTO request(int players, int roomSize, int advance) {
+        CreateTournamentDTO request = new CreateTournamentDTO();
+        List<String> usernames = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            usernames.add("Player" + i);
+        }
+        request.setUsernames(usernames);
+        request.setRoomSize(roomSize);
+        request.setAdvancePerRoom(advance);
+        request.setMaxRounds(2);
+        return request;
+    }
+
+    TournamentSeatDTO awaitSeat(String id, String username) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        TournamentSeatDTO seat = tournamentService.getSeat(id, username, null);
+        while (seat == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            seat = tournamentService.getSeat(id, username, null);
+        }
+        assertNotNull(seat, username + " was never seated");
+        return seat;
+    }
+
+    TournamentDTO awaitChampion(String id, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        TournamentDTO tournament = tournamentService.get(id);
+        while (!tournament.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            tournament = tournamentService.get(id);
+        }
+        assertTrue(tournament.isFinished(), "tournament stuck in round " + tournament.getRound() + " with "
+                + tournament.getRoomsFinished() + "/" + tournament.getRooms() + " rooms finished");
+        return tournament;
+    }
+}
@@ -0,0 +1,79 @@
+package com.impostor.backend.service;
+
+import com.impostor.backend.cluster.InMemoryRoomStore;
+import com.impostor.backend.cluster.LocalRoomEventBus;
+import com.impostor.backend.config.SchedulerConfig;
+import com.impostor.backend.dto.CreateTournamentDTO;
+import com.impostor.backend.dto.TournamentDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A 10,000 player tournament played end to end in-process by
+ * {@link TournamentBot}, on the production scheduler and shard setup.
+ * Run with {@code mvn test -Dtest=TournamentSimulationTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TournamentSimulationTest {
+
+    private static final int PLAYERS = 10_000;
+    private static final int ROOM_SIZE = 10;
+
+    @Test
+    void simulateTournament() throws Exception {
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> true);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+        GameEventDispatcher dispatcher = new GameEventDispatcher(template, new LocalRoomEventBus());
+        RoomService roomService = new RoomService(new InMemoryRoomStore(), 0);
+        GameService gameService = new GameService(roomService, dispatcher);
+        ThreadPoolTaskScheduler scheduler = new SchedulerConfig().gameScheduler();
+        scheduler.initialize();
+        // A short start delay, so every round goes through the start timer
+        TournamentService tournamentService = new TournamentService(roomService, gameService, dispatcher,
+                scheduler, 100, 300_000, 300_000, "local");
+        dispatcher.addListener(new TournamentBot(roomService, gameService));
+
+        try {
+            CreateTournamentDTO request = new CreateTournamentDTO();
+            List<String> usernames = new ArrayList<>(PLAYERS);
+            for (int i = 0; i < PLAYERS; i++) {
+                usernames.add("Player" + i);
+            }
+            request.setUsernames(usernames);
+            request.setRoomSize(ROOM_SIZE);
+            request.setAdvancePerRoom(1);
+            request.setMaxRounds(3);
+
+            long start = System.nanoTime();
+            String id = tournamentService.create(request).getTournament().getId();
+            TournamentDTO tournament = tournamentService.get(id);
+            long deadline = System.currentTimeMillis() + 300_000;
+            while (!tournament.isFinished() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+                tournament = tournamentService.get(id);
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(tournament.isFinished(), "stuck in round " + tournament.getRound() + " at "
+                    + tournament.getRoomsFinished() + "/" + tournament.getRooms() + " rooms");
+            // 10,000 -> 1,000 -> 100 -> 10 -> final
+            assertEquals(4, tournament.getRound());
+            assertNotNull(tournamentService.getSeat(id, tournament.getChampion(), null));
+            System.out.printf("Tournament of %d players (%d rooms, %d shards) finished in %d ms, won by %s%n",
+                    PLAYERS, 1000 + 100 + 10 + 1, roomService.getShardCount(), millis, tournament.getChampion());
+        } finally {
+            tournamentService.shutdown();
+            dispatcher.shutdown();
+            roomService.shutdown();
+            scheduler.shutdown();
+        }
+    }
+}
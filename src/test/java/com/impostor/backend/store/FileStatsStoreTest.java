@@ -0,0 +1,149 @@
+package com.impostor.backend.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impostor.backend.dto.PlayerStatsDTO;
+import com.impostor.backend.service.GameEventDispatcher;
+import com.impostor.backend.service.GameFinished;
+import com.impostor.backend.service.PlayerStatsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class FileStatsStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testLatestRecordSurvivesReopen() throws Exception {
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 2)) {
+            store.saveAll(List.of(stats("A", 1), stats("B", 1)));
+            store.saveAll(List.of(stats("A", 2), stats("C", 5)));
+            assertEquals(2, store.load("A").getWins());
+        }
+
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 2)) {
+            assertEquals(2, store.load("A").getWins());
+            assertEquals(1, store.load("B").getWins());
+            assertEquals(5, store.load("C").getWins());
+            assertNull(store.load("D"));
+
+            List<PlayerStatsDTO> all = new ArrayList<>();
+            store.forEach(all::add);
+            assertEquals(3, all.size());
+        }
+    }
+
+    @Test
+    void testLogIsCompactedWhileRunning() throws Exception {
+        Path log = dir.resolve(FileStatsStore.LOG_FILE);
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 2)) {
+            for (int wins = 1; wins <= 5_000; wins++) {
+                store.saveAll(List.of(stats("A", wins), stats("B", wins)));
+            }
+            // Without compaction this would be 10,000 lines
+            assertTrue(Files.readAllLines(log).size() <= 2_048);
+            assertEquals(5_000, store.load("A").getWins());
+            store.saveAll(List.of(stats("C", 1)));
+        }
+
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 2)) {
+            assertEquals(5_000, store.load("B").getWins());
+            assertEquals(1, store.load("C").getWins());
+        }
+    }
+
+    @Test
+    void testTornTailIsDropped() throws Exception {
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 10)) {
+            store.saveAll(List.of(stats("A", 1)));
+        }
+        Files.write(dir.resolve(FileStatsStore.LOG_FILE), "{\"username\":\"B\",\"wi".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 10)) {
+            assertNull(store.load("B"));
+            store.saveAll(List.of(stats("B", 3)));
+            assertEquals(1, store.load("A").getWins());
+            assertEquals(3, store.load("B").getWins());
+        }
+    }
+
+    @Test
+    void testSupersededRecordsAreCompactedOnOpen() throws Exception {
+        // Written directly, since a running store compacts as it goes
+        StringBuilder lines = new StringBuilder();
+        for (int i = 1; i <= 2000; i++) {
+            lines.append(objectMapper.writeValueAsString(stats("A", i))).append('\n');
+        }
+        Files.writeString(dir.resolve(FileStatsStore.LOG_FILE), lines);
+        long before = Files.size(dir.resolve(FileStatsStore.LOG_FILE));
+
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 10)) {
+            assertTrue(Files.size(dir.resolve(FileStatsStore.LOG_FILE)) < before / 100);
+            assertEquals(2000, store.load("A").getWins());
+        }
+    }
+
+    @Test
+    void testWriteBehindBatchesGamesAndRestoresLeaderboard() throws Exception {
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 10)) {
+            PlayerStatsService stats = new PlayerStatsService(mock(GameEventDispatcher.class), store, 60_000, 100_000);
+            for (int i = 0; i < 50; i++) {
+                stats.record(new GameFinished("R", "Imp", true, List.of("A", "B"), List.of()));
+            }
+            // Nothing written until the flush, and then one record per player
+            assertNull(store.load("Imp"));
+            stats.flush();
+            assertEquals(50, store.load("Imp").getWins());
+            assertEquals(3, countLines());
+        }
+
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 10)) {
+            PlayerStatsService stats = new PlayerStatsService(mock(GameEventDispatcher.class), store, 60_000, 100_000);
+            assertEquals("Imp", stats.top(1).get(0).getUsername());
+
+            stats.warm("Imp");
+            stats.record(new GameFinished("R", "Imp", true, List.of("A", "B"), List.of()));
+            assertEquals(51, stats.getStats("Imp").getWins());
+            assertEquals(51, stats.getStats("A").getGamesPlayed());
+        }
+    }
+
+    @Test
+    void testLoadAllReadsLatestRecords() throws Exception {
+        try (FileStatsStore store = new FileStatsStore(objectMapper, dir, 1)) {
+            store.saveAll(List.of(stats("A", 1), stats("B", 1), stats("C", 3)));
+            store.saveAll(List.of(stats("A", 2)));
+
+            Map<String, PlayerStatsDTO> loaded = store.loadAll(List.of("C", "A", "B", "Nobody"));
+            assertEquals(Set.of("A", "B", "C"), loaded.keySet());
+            assertEquals(2, loaded.get("A").getWins());
+            assertEquals(1, loaded.get("B").getWins());
+            assertEquals(3, loaded.get("C").getWins());
+        }
+    }
+
+    private long countLines() throws Exception {
+        try (var lines = Files.lines(dir.resolve(FileStatsStore.LOG_FILE))) {
+            return lines.count();
+        }
+    }
+
+    private PlayerStatsDTO stats(String username, long wins) {
+        return new PlayerStatsDTO(username, wins, wins, 0, 0, 0, 0);
+    }
+}